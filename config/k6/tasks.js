@@ -0,0 +1,55 @@
+// Load test for the task listing endpoints, used to compare platform and virtual threads.
+//
+//   k6 run -e USERNAME=user -e PASSWORD=secret config/k6/tasks.js
+//
+// Optional: BASE_URL (default http://localhost:8080), RATE (requests per second, default 200),
+// DURATION (default 2m), MAX_VUS (default 500).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        tasks: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 200),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 50,
+            maxVUs: Number(__ENV.MAX_VUS || 500),
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:list}': ['p(95)<500'],
+        'http_req_duration{endpoint:list_without_count}': ['p(95)<300'],
+        'http_req_duration{endpoint:cursor}': ['p(95)<300'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/login`,
+        JSON.stringify({ username: __ENV.USERNAME, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'logged in': (r) => r.status === 200 });
+    return { token: response.json('accessToken') };
+}
+
+export default function (data) {
+    const params = (endpoint) => ({
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { endpoint },
+    });
+
+    const pick = Math.random();
+    let response;
+    if (pick < 0.4) {
+        response = http.get(`${BASE_URL}/tasks?page=0&size=10`, params('list'));
+    } else if (pick < 0.7) {
+        response = http.get(`${BASE_URL}/tasks?count=false&page=0&size=10`, params('list_without_count'));
+    } else {
+        response = http.get(`${BASE_URL}/tasks/cursor?size=10`, params('cursor'));
+    }
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,36 @@
+package com.task.manager.task.manager.backend.benchmark;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.User;
+
+import java.util.Date;
+
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5mK3E6l7C1b9Q9o0xHz7rQm");
+        return user;
+    }
+
+    static Task task(long id, User user) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of task " + id);
+        task.setStatus(StatusEnum.PENDING);
+        task.setCreateDate(new Date());
+        task.setDeadLine(new Date(System.currentTimeMillis() + 86_400_000L));
+        task.setAssignedTo(user);
+        return task;
+    }
+}
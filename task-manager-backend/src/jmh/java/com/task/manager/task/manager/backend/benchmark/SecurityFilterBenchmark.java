@@ -0,0 +1,75 @@
+package com.task.manager.task.manager.backend.benchmark;
+
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.UserRepository;
+import com.task.manager.task.manager.backend.security.PrincipalCache;
+import com.task.manager.task.manager.backend.security.SecurityFilter;
+import com.task.manager.task.manager.backend.security.TokenService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs a bearer-token request through {@link SecurityFilter} with a mocked filter chain,
+ * in both the claims-only and the cached-lookup modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SecurityFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean stateless;
+
+    private SecurityFilter securityFilter;
+
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(user);
+
+        TokenService tokenService = new TokenService(BenchmarkFixtures.SECRET, "default", Map.of(), 10_000, 15);
+        PrincipalCache principalCache = new PrincipalCache(userRepository, 10_000, 300);
+        securityFilter = new SecurityFilter(tokenService, principalCache, stateless);
+        authorization = "Bearer " + tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader("Authorization", authorization);
+        try {
+            securityFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.task.manager.task.manager.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import com.task.manager.task.manager.backend.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes the page returned by {@code TaskController.retrieveTasks} with the same Jackson setup Spring MVC uses,
+ * next to the equivalent page of entities it used to return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private Page<Task> entityPage;
+
+    private Page<TaskRecord> recordPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User user = BenchmarkFixtures.user();
+        List<Task> tasks = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> BenchmarkFixtures.task(id, user))
+                .toList();
+        entityPage = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000);
+        recordPage = entityPage.map(TaskRecord::from);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recordPage);
+    }
+
+    @Benchmark
+    public byte[] serializeEntityPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entityPage);
+    }
+}
@@ -0,0 +1,68 @@
+package com.task.manager.task.manager.backend.benchmark;
+
+import com.task.manager.task.manager.backend.model.NewTaskRecord;
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import com.task.manager.task.manager.backend.repository.UserRepository;
+import com.task.manager.task.manager.backend.service.TaskCounters;
+import com.task.manager.task.manager.backend.service.TaskService;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the validation and mapping work done by {@link TaskService#create} with the repositories stubbed out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskServiceBenchmark {
+
+    private TaskService taskService;
+
+    private NewTaskRecord taskRecord;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService = new TaskService(taskRepository, userRepository,
+                mock(TaskCounters.class, withSettings().stubOnly()),
+                mock(ApplicationEventPublisher.class, withSettings().stubOnly()),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        taskRecord = new NewTaskRecord("Benchmark task", "Benchmark description", StatusEnum.PENDING,
+                new Date(System.currentTimeMillis() + 86_400_000L), user.getId());
+    }
+
+    @Benchmark
+    public Task create() {
+        return taskService.create(taskRecord);
+    }
+}
@@ -0,0 +1,76 @@
+package com.task.manager.task.manager.backend.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing, and verification as it used to be done (algorithm and verifier rebuilt on every call)
+ * compared with the prebuilt keyring, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = BenchmarkFixtures.SECRET;
+
+    private TokenService prebuiltTokenService;
+
+    private TokenService cachedTokenService;
+
+    private User user;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        prebuiltTokenService = new TokenService(SECRET, "default", Map.of(), 0, 15);
+        cachedTokenService = new TokenService(SECRET, "default", Map.of(), 10_000, 15);
+
+        user = BenchmarkFixtures.user();
+        token = prebuiltTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return prebuiltTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String verifyRebuildingVerifierPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm)
+                .withIssuer("Task Manager API")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String verifyWithPrebuiltVerifier() {
+        return prebuiltTokenService.getSubject(token);
+    }
+
+    @Benchmark
+    public String verifyWithVerifiedTokenCache() {
+        return cachedTokenService.getSubject(token);
+    }
+}
@@ -0,0 +1,33 @@
+package com.task.manager.task.manager.backend.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the FULLTEXT index used by task search. {@code ddl-auto} cannot declare FULLTEXT indexes,
+ * so it is added on startup when missing.
+ */
+@Component
+public class FullTextIndexInitializer implements ApplicationRunner {
+
+    private static final String INDEX_NAME = "ft_task_title_description";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FullTextIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                        "where table_schema = database() and table_name = 'task' and index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing == null || existing == 0) {
+            jdbcTemplate.execute("alter table task add fulltext index " + INDEX_NAME + " (title, description)");
+        }
+    }
+}
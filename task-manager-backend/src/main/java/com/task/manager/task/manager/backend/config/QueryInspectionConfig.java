@@ -0,0 +1,38 @@
+package com.task.manager.task.manager.backend.config;
+
+import com.task.manager.task.manager.backend.jdbc.QueryInspector;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class QueryInspectionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public QueryInspector queryInspector(@Value("${api.jdbc.inspection.explain-threshold-ms:200}") long explainThresholdMs,
+                                         @Value("${api.jdbc.inspection.explain-interval-seconds:300}") long explainIntervalSeconds) {
+        return new QueryInspector(explainThresholdMs, Duration.ofSeconds(explainIntervalSeconds));
+    }
+
+    /**
+     * Routes the pool through {@link QueryInspector}. Static so it is registered before the data source is created.
+     */
+    @Bean
+    public static BeanPostProcessor queryInspectorDataSourceWrapper(ObjectProvider<QueryInspector> queryInspector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return queryInspector.getObject().wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.task.manager.task.manager.backend.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lets through a random share of the events, set by {@code rate} between 0 and 1. Used by {@code logback-spring.xml}
+ * to sample the slow-query log.
+ */
+public class SamplingLogFilter extends Filter<ILoggingEvent> {
+
+    private double rate = 1.0;
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -1,12 +1,16 @@
 package com.task.manager.task.manager.backend.controller;
 
 import com.task.manager.task.manager.backend.model.LoginRecord;
+import com.task.manager.task.manager.backend.model.RefreshRecord;
+import com.task.manager.task.manager.backend.model.TokenRecord;
 import com.task.manager.task.manager.backend.model.User;
-import com.task.manager.task.manager.backend.security.TokenService;
+import com.task.manager.task.manager.backend.security.PasswordHashingUnavailableException;
+import com.task.manager.task.manager.backend.security.RefreshTokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,35 +28,70 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
 
-    private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
 
     @Autowired
-    public AuthController(AuthenticationManager authenticationManager, TokenService tokenService) {
+    public AuthController(AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService) {
         this.authenticationManager = authenticationManager;
-        this.tokenService = tokenService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping
     @Operation(
             summary = "User Login",
-            description = "Authenticates a user and returns a JWT token.",
+            description = "Authenticates a user and returns a short-lived JWT access token with a refresh token.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Successful authentication, returns JWT token"),
-                    @ApiResponse(responseCode = "400", description = "Invalid credentials or authentication failure")
-                    
+                    @ApiResponse(responseCode = "200", description = "Successful authentication, returns the tokens"),
+                    @ApiResponse(responseCode = "400", description = "Invalid credentials or authentication failure"),
+                    @ApiResponse(responseCode = "503", description = "Too many logins in progress, retry later")
             }
     )
-    public ResponseEntity<String> login(@RequestBody LoginRecord dto) {
+    public ResponseEntity<?> login(@RequestBody LoginRecord dto) {
         try{
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(dto.username(),dto.password());
             Authentication authenticate = authenticationManager.authenticate(authenticationToken);
-            String token = tokenService.generateToken((User) authenticate.getPrincipal());
-            return ResponseEntity.status(HttpStatus.OK).body(token);
+            TokenRecord tokens = refreshTokenService.issue((User) authenticate.getPrincipal());
+            return ResponseEntity.status(HttpStatus.OK).body(tokens);
         }catch (Exception e){
+            if (PasswordHashingUnavailableException.isCauseOf(e)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(PasswordHashingUnavailableException.MESSAGE);
+            }
             return ResponseEntity.badRequest().body(e.getMessage());
         }
 
     }
 
-}
\ No newline at end of file
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh tokens",
+            description = "Exchanges a refresh token for a new access token and a new refresh token, without checking the password. " +
+                    "Each refresh token can be used once; using it again revokes every token issued from the same login.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tokens refreshed"),
+                    @ApiResponse(responseCode = "401", description = "Unknown, expired, revoked or already used refresh token")
+            }
+    )
+    public ResponseEntity<TokenRecord> refresh(@RequestBody RefreshRecord dto) {
+        try{
+            return ResponseEntity.ok(refreshTokenService.refresh(dto.refreshToken()));
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @PostMapping("/revoke")
+    @Operation(
+            summary = "Revoke a refresh token",
+            description = "Revokes the refresh token and every token issued from the same login, e.g. on logout.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Tokens revoked")
+            }
+    )
+    public ResponseEntity<Void> revoke(@RequestBody RefreshRecord dto) {
+        refreshTokenService.revoke(dto.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+}
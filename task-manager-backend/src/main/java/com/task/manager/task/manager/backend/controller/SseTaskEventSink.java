@@ -0,0 +1,46 @@
+package com.task.manager.task.manager.backend.controller;
+
+import com.task.manager.task.manager.backend.service.TaskChangedEvent;
+import com.task.manager.task.manager.backend.service.TaskEventBus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes task events as server-sent events named after the event type, and "resync" when events were dropped.
+ */
+class SseTaskEventSink implements TaskEventBus.Sink {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+
+    SseTaskEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(List<TaskChangedEvent> events, boolean resync) throws IOException {
+        if (resync) {
+            emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+        }
+        for (TaskChangedEvent event : events) {
+            emitter.send(SseEmitter.event()
+                    .name(event.type().name().toLowerCase(Locale.ROOT))
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("keep-alive"));
+    }
+
+    @Override
+    public void close() {
+        emitter.completeWithError(new IOException("Task stream send timed out"));
+    }
+}
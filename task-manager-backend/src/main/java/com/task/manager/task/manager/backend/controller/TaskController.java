@@ -1,9 +1,20 @@
 package com.task.manager.task.manager.backend.controller;
 
+import com.task.manager.task.manager.backend.model.BulkItemResultRecord;
+import com.task.manager.task.manager.backend.model.BulkStatusRecord;
+import com.task.manager.task.manager.backend.model.CursorPageRecord;
 import com.task.manager.task.manager.backend.model.NewTaskRecord;
 import com.task.manager.task.manager.backend.model.StatusEnum;
 import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.TaskPatchRecord;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import com.task.manager.task.manager.backend.model.TaskStatusRecord;
+import com.task.manager.task.manager.backend.model.TaskSummaryRecord;
 import com.task.manager.task.manager.backend.security.TokenService;
+import com.task.manager.task.manager.backend.service.TaskEventBus;
+import com.task.manager.task.manager.backend.service.TaskExportService;
+import com.task.manager.task.manager.backend.service.TaskFileFormat;
+import com.task.manager.task.manager.backend.service.TaskImportService;
 import com.task.manager.task.manager.backend.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,10 +25,28 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
 
 @RestController
 @RequestMapping("/tasks")
@@ -25,36 +54,200 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "BearerAuth")
 public class TaskController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int MAX_BULK_SIZE = 500;
+
+    private static final String APPROXIMATE_TOTAL_HEADER = "X-Total-Count-Approximate";
+
+    private static final String TASK_CHANGED = "Task was changed by another request.";
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
     private final TaskService taskService;
 
     private final TokenService tokenService;
 
-    public TaskController(TaskService taskService, TokenService tokenService) {
+    private final TaskEventBus taskEventBus;
+
+    private final TaskExportService taskExportService;
+
+    private final TaskImportService taskImportService;
+
+    public TaskController(TaskService taskService, TokenService tokenService, TaskEventBus taskEventBus,
+                          TaskExportService taskExportService, TaskImportService taskImportService) {
         this.taskService = taskService;
         this.tokenService = tokenService;
+        this.taskEventBus = taskEventBus;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
     }
     @GetMapping
     @Operation(
             summary = "Retrieve tasks assigned to a user",
-            description = "Returns a paginated list of tasks assigned to the given user.",
+            description = "Returns a paginated list of tasks assigned to the given user. With count=false the total is not counted; an approximate total is returned in the X-Total-Count-Approximate header instead.",
+            parameters = {
+                    @Parameter(name = "count", description = "Whether to count the exact total, defaults to true"),
+                    @Parameter(name = "pageable", hidden = true)
+            },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "No task of the user changed since the ETag sent in If-None-Match"),
                     @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
                     @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
             }
     )
-    public ResponseEntity<Page<Task>> retrieveTasks(@PageableDefault(size = 10) Pageable pageable){
+    public ResponseEntity<Slice<TaskRecord>> retrieveTasks(@RequestParam(defaultValue = "true") boolean count,
+                                                           @PageableDefault(size = 10) Pageable pageable,
+                                                           WebRequest request){
         try {
             Long userId = tokenService.getAuthenticatedUserId();
-            Page<Task> tasks = taskService.listTasksByUserId(userId,pageable);
+            if (request.checkNotModified(listingETag(userId, count, pageable))) {
+                return notModified();
+            }
+            if (!count) {
+                return ResponseEntity.ok()
+                        .cacheControl(REVALIDATE)
+                        .header(APPROXIMATE_TOTAL_HEADER, String.valueOf(taskService.approximateTaskCount(userId, null)))
+                        .body(taskService.sliceTasksByUserId(userId,pageable));
+            }
+            Page<TaskRecord> tasks = taskService.listTasksByUserId(userId,pageable);
 
-            return ResponseEntity.ok(tasks);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(tasks);
         }catch (Exception e){
             throw new RuntimeException(e.getMessage());
         }
 
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream task changes",
+            description = "Opens a server-sent event stream with the created, updated, deleted and overdue events of the authenticated user's tasks. " +
+                    "Events of the same task are merged while the client is behind; if too many are pending they are dropped and a resync event " +
+                    "tells the client to reload its tasks. The stream closes after 30 minutes and should be reopened.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream opened"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure"),
+                    @ApiResponse(responseCode = "429", description = "Too many open streams for the user")
+            }
+    )
+    public ResponseEntity<SseEmitter> streamTasks(){
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        try {
+            TaskEventBus.Subscription subscription =
+                    taskEventBus.subscribe(tokenService.getAuthenticatedUserId(), new SseTaskEventSink(emitter));
+            emitter.onCompletion(subscription::cancel);
+            emitter.onTimeout(subscription::cancel);
+            emitter.onError(e -> subscription.cancel());
+        }catch (IllegalStateException e){
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export all tasks of the user",
+            description = "Streams every active task of the authenticated user, ordered by ID, as NDJSON (one JSON task per line) or CSV. " +
+                    "Rows are written while they are read, so the export has no size limit and no pagination.",
+            parameters = @Parameter(name = "format", description = "ndjson or csv, defaults to ndjson"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+                    @ApiResponse(responseCode = "400", description = "Unsupported format"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format){
+        TaskFileFormat exportFormat;
+        try {
+            exportFormat = TaskFileFormat.parse(format);
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.badRequest().build();
+        }
+        Long userId = tokenService.getAuthenticatedUserId();
+        StreamingResponseBody body = out -> taskExportService.exportTasks(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    @Operation(
+            summary = "Import tasks from a file",
+            description = "Creates tasks for the authenticated user from an NDJSON body (one NewTaskRecord per line) or a CSV body with " +
+                    "title, description, status and deadLine columns, deadlines as ISO-8601 instants. The body is read as it arrives " +
+                    "and saved in chunks, so there is no size limit. Rejected lines are reported by line number and do not stop the import.",
+            parameters = @Parameter(name = "format", description = "ndjson or csv, defaults to ndjson"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import finished, with the lines that were rejected"),
+                    @ApiResponse(responseCode = "400", description = "Unsupported format or CSV header without the required columns"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<?> importTasks(@RequestParam(defaultValue = "ndjson") String format, InputStream body) throws IOException {
+        try {
+            TaskFileFormat importFormat = TaskFileFormat.parse(format);
+            Long userId = tokenService.getAuthenticatedUserId();
+            return ResponseEntity.ok(taskImportService.importTasks(userId, importFormat, body));
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Summarize the user's tasks",
+            description = "Returns the number of active tasks per status, the total, and how many unfinished tasks are overdue or due later today. " +
+                    "Counts are kept in memory and may trail recent writes by a moment.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Summary retrieved successfully"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<TaskSummaryRecord> summarizeTasks(){
+        return ResponseEntity.ok(taskService.summary(tokenService.getAuthenticatedUserId()));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search tasks by text",
+            description = "Returns the authenticated user's tasks whose title or description contain every word of the query " +
+                    "(words of at least 3 characters, also matched as prefixes), best matches first, without a total count.",
+            parameters = {
+                    @Parameter(name = "q", description = "Words to search for", required = true),
+                    @Parameter(name = "page", description = "Page number, starting at 0"),
+                    @Parameter(name = "size", description = "Page size, up to 100")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching tasks retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "No task of the user changed since the ETag sent in If-None-Match"),
+                    @ApiResponse(responseCode = "400", description = "Empty query or no word long enough to search"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<Slice<TaskRecord>> searchTasks(@RequestParam String q,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "10") int size,
+                                                         WebRequest request){
+        try {
+            Long userId = tokenService.getAuthenticatedUserId();
+            if (request.checkNotModified(listingETag(userId, q, page, size))) {
+                return notModified();
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(taskService.searchTasks(userId, q, Math.max(page, 0), cursorPageSize(size)));
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Find a task by ID",
@@ -62,39 +255,120 @@ public class TaskController {
             parameters = @Parameter(name = "id", description = "Task ID", required = true),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Task retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "Task did not change since the ETag sent in If-None-Match"),
                     @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure"),
                     @ApiResponse(responseCode = "404", description = "Task not found")
             }
     )
-    public ResponseEntity<Task> findTask (@PathVariable Long id){
-        return ResponseEntity.ok().body(taskService.findTaskById(id));
+    public ResponseEntity<TaskRecord> findTask (@PathVariable Long id, WebRequest request){
+        Task task = taskService.findTaskById(id);
+        if (request.checkNotModified(task.getId() + "-" + task.getVersion())) {
+            return notModified();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(TaskRecord.from(task));
     }
 
     @GetMapping("/filter")
     @Operation(
             summary = "Find tasks by status",
-            description = "Retrieves a paginated list of tasks filtered by status and user ID.",
+            description = "Retrieves a paginated list of tasks filtered by status and user ID. With count=false the total is not counted; an approximate total is returned in the X-Total-Count-Approximate header instead.",
             parameters = {
                     @Parameter(name = "status", description = "Status of the task", required = true),
+                    @Parameter(name = "count", description = "Whether to count the exact total, defaults to true"),
                     @Parameter(name = "pageable", hidden = true)
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Filtered tasks retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "No task of the user changed since the ETag sent in If-None-Match"),
                     @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
                     @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
 
             }
     )
-    public ResponseEntity<Page<Task>> findTaskByStatus (@RequestParam StatusEnum status,@PageableDefault(size = 10) Pageable pageable ){
+    public ResponseEntity<Slice<TaskRecord>> findTaskByStatus (@RequestParam StatusEnum status,
+                                                               @RequestParam(defaultValue = "true") boolean count,
+                                                               @PageableDefault(size = 10) Pageable pageable,
+                                                               WebRequest request){
         try {
             Long userId = tokenService.getAuthenticatedUserId();
-            return ResponseEntity.ok().body(taskService.listTasksByStatus(userId,status, pageable));
+            if (request.checkNotModified(listingETag(userId, status, count, pageable))) {
+                return notModified();
+            }
+            if (!count) {
+                return ResponseEntity.ok()
+                        .cacheControl(REVALIDATE)
+                        .header(APPROXIMATE_TOTAL_HEADER, String.valueOf(taskService.approximateTaskCount(userId, status)))
+                        .body(taskService.sliceTasksByStatus(userId, status, pageable));
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(taskService.listTasksByStatus(userId,status, pageable));
         }catch (Exception e){
            throw new RuntimeException(e.getMessage());
         }
 
     }
 
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "Retrieve tasks assigned to a user after a cursor",
+            description = "Returns tasks ordered by deadline, starting after the given cursor. Pages take constant time regardless of depth and carry no total count.",
+            parameters = {
+                    @Parameter(name = "cursor", description = "Cursor returned by the previous page, empty for the first page"),
+                    @Parameter(name = "size", description = "Page size, up to 100")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "No task of the user changed since the ETag sent in If-None-Match"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<CursorPageRecord<TaskRecord>> retrieveTasksAfter(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "10") int size,
+                                                                           WebRequest request){
+        try {
+            Long userId = tokenService.getAuthenticatedUserId();
+            if (request.checkNotModified(listingETag(userId, cursor, size))) {
+                return notModified();
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(taskService.listTasksByUserIdAfter(userId, cursor, cursorPageSize(size)));
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/filter/cursor")
+    @Operation(
+            summary = "Find tasks by status after a cursor",
+            description = "Returns tasks with the given status ordered by deadline, starting after the given cursor, without a total count.",
+            parameters = {
+                    @Parameter(name = "status", description = "Status of the task", required = true),
+                    @Parameter(name = "cursor", description = "Cursor returned by the previous page, empty for the first page"),
+                    @Parameter(name = "size", description = "Page size, up to 100")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Filtered tasks retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "No task of the user changed since the ETag sent in If-None-Match"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<CursorPageRecord<TaskRecord>> findTaskByStatusAfter(@RequestParam StatusEnum status,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "10") int size,
+                                                                              WebRequest request){
+        try {
+            Long userId = tokenService.getAuthenticatedUserId();
+            if (request.checkNotModified(listingETag(userId, status, cursor, size))) {
+                return notModified();
+            }
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(taskService.listTasksByStatusAfter(userId, status, cursor, cursorPageSize(size)));
+        }catch (IllegalArgumentException e){
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     @Operation(
             summary = "Create a new task",
@@ -136,7 +410,8 @@ public class TaskController {
                     @ApiResponse(responseCode = "202", description = "Task updated successfully"),
                     @ApiResponse(responseCode = "400", description = "Invalid input data"),
                     @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure"),
-                    @ApiResponse(responseCode = "404", description = "Task not found")
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "409", description = "Task was changed by another request")
             }
     )
     public ResponseEntity<String> updateTask (@PathVariable Long id, @RequestBody NewTaskRecord taskRecord){
@@ -144,6 +419,65 @@ public class TaskController {
             taskService.updateTask(id,taskRecord);
 
             return ResponseEntity.accepted().body("Task updated.");
+        }catch (ObjectOptimisticLockingFailureException e){
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(TASK_CHANGED);
+        }catch (Exception e){
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(
+            summary = "Partially update a task",
+            description = "Changes only the fields that are sent. When a version is sent and the task changed since, the update is rejected with 409.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Fields to change",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = TaskPatchRecord.class))
+            ),
+            parameters = @Parameter(name = "id", description = "Task ID", required = true),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Task updated successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input data or task not found"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure"),
+                    @ApiResponse(responseCode = "409", description = "Task was changed by another request")
+            }
+    )
+    public ResponseEntity<?> patchTask (@PathVariable Long id, @RequestBody TaskPatchRecord patch){
+        try {
+            Task task = taskService.patchTask(tokenService.getAuthenticatedUserId(), id, patch);
+
+            return ResponseEntity.ok(TaskRecord.from(task));
+        }catch (ObjectOptimisticLockingFailureException e){
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(TASK_CHANGED);
+        }catch (Exception e){
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+    }
+
+    @PatchMapping("/{id}/status")
+    @Operation(
+            summary = "Change the status of a task",
+            description = "Changes only the status of a task of the authenticated user, with a single update statement.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "New status",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = TaskStatusRecord.class))
+            ),
+            parameters = @Parameter(name = "id", description = "Task ID", required = true),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Task status updated successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid status or task not found"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<String> updateTaskStatus (@PathVariable Long id, @RequestBody TaskStatusRecord statusRecord){
+        try {
+            taskService.updateStatus(tokenService.getAuthenticatedUserId(), id, statusRecord.status());
+
+            return ResponseEntity.accepted().body("Task status updated.");
         }catch (Exception e){
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -164,7 +498,7 @@ public class TaskController {
     )
     public ResponseEntity<String> deleteTask (@PathVariable Long id){
         try{
-            taskService.deleteTask(id);
+            taskService.deleteTask(tokenService.getAuthenticatedUserId(), id);
             return ResponseEntity.accepted().body("Task deleted.");
         }catch (Exception e){
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -173,4 +507,103 @@ public class TaskController {
 
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Create several tasks",
+            description = "Creates up to 500 tasks in one transaction. Invalid items are skipped and reported in the result at their position.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "List of task data",
+                    required = true
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Result of each item"),
+                    @ApiResponse(responseCode = "400", description = "Empty or too large request"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<List<BulkItemResultRecord>> createTasks (@RequestBody List<NewTaskRecord> taskRecords){
+        if (!isValidBulkSize(taskRecords)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.createAll(taskRecords));
+    }
+
+    @PatchMapping("/bulk/status")
+    @Operation(
+            summary = "Change the status of several tasks",
+            description = "Moves up to 500 tasks of the authenticated user to the given status. Tasks that are not found are reported in the result at their position.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Task IDs and new status",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkStatusRecord.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Result of each item"),
+                    @ApiResponse(responseCode = "400", description = "Empty or too large request"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<List<BulkItemResultRecord>> updateTasksStatus (@RequestBody BulkStatusRecord statusRecord){
+        if (statusRecord.status() == null || !isValidBulkSize(statusRecord.ids())) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long userId = tokenService.getAuthenticatedUserId();
+        return ResponseEntity.ok(taskService.updateStatusAll(userId, statusRecord.ids(), statusRecord.status()));
+    }
+
+    @DeleteMapping("/bulk")
+    @Operation(
+            summary = "Delete several tasks",
+            description = "Deletes up to 500 tasks of the authenticated user. Tasks that are not found are reported in the result at their position.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "List of task IDs",
+                    required = true
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Result of each item"),
+                    @ApiResponse(responseCode = "400", description = "Empty or too large request"),
+                    @ApiResponse(responseCode = "403", description = "Invalid credentials or authentication failure")
+            }
+    )
+    public ResponseEntity<List<BulkItemResultRecord>> deleteTasks (@RequestBody List<Long> ids){
+        if (!isValidBulkSize(ids)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long userId = tokenService.getAuthenticatedUserId();
+        return ResponseEntity.ok(taskService.deleteAll(userId, ids));
+    }
+
+    private boolean isValidBulkSize(List<?> items){
+        return items != null && !items.isEmpty() && items.size() <= MAX_BULK_SIZE;
+    }
+
+    /**
+     * Computed before the listing runs, so a write committed in between only makes the next request miss.
+     * The parameters are length-prefixed before hashing, so different parameters never encode to the same input.
+     */
+    private String listingETag(Long userId, Object... parameters){
+        StringBuilder encoded = new StringBuilder();
+        for (Object parameter : parameters) {
+            String value = String.valueOf(parameter);
+            encoded.append(value.length()).append(':').append(value);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(encoded.toString().getBytes(StandardCharsets.UTF_8));
+            return userId + "-" + Long.toHexString(taskService.tasksWatermark(userId)) + "-" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@link WebRequest#checkNotModified(String)} has already written the status and the ETag header.
+     */
+    private <T> ResponseEntity<T> notModified(){
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+
+    private int cursorPageSize(int size){
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
 }
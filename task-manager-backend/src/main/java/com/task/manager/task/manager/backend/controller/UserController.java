@@ -2,6 +2,7 @@ package com.task.manager.task.manager.backend.controller;
 
 import com.task.manager.task.manager.backend.model.NewUserRecord;
 import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.security.PasswordHashingUnavailableException;
 import com.task.manager.task.manager.backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -40,7 +42,8 @@ public class UserController {
             description = "Creates a new user in the system. The username and email must be unique.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "User created successfully"),
-                    @ApiResponse(responseCode = "400", description = "Invalid input or user already exists")
+                    @ApiResponse(responseCode = "400", description = "Invalid input or user already exists"),
+                    @ApiResponse(responseCode = "503", description = "Too many registrations in progress, retry later")
             }
     )
     public ResponseEntity<String> create(@RequestBody @Valid NewUserRecord newUser) {
@@ -50,6 +53,10 @@ public class UserController {
                     .body("User: " + user.getUsername() + " created.");
 
         }catch (Exception e){
+            if (PasswordHashingUnavailableException.isCauseOf(e)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(PasswordHashingUnavailableException.MESSAGE);
+            }
           return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
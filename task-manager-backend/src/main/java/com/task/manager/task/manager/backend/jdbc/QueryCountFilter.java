@@ -0,0 +1,97 @@
+package com.task.manager.task.manager.backend.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements each request runs and flags requests that run too many, or run the same statement
+ * over and over. The response is already written by then, so this only reports; tests that should fail on a
+ * budget open their own {@link QueryInspector#begin() scope} and use its assertions instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryInspector queryInspector;
+
+    private final int maxStatements;
+
+    private final int maxRepeats;
+
+    private volatile DistributionSummary statementsPerRequest;
+
+    private volatile Counter tooManyStatements;
+
+    private volatile Counter repeatedStatements;
+
+    public QueryCountFilter(QueryInspector queryInspector,
+                            @Value("${api.jdbc.inspection.max-statements-per-request:20}") int maxStatements,
+                            @Value("${api.jdbc.inspection.max-repeats:5}") int maxRepeats) {
+        this.queryInspector = queryInspector;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (QueryInspector.Scope scope = queryInspector.begin()) {
+            filterChain.doFilter(request, response);
+            check(request, scope);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        statementsPerRequest = DistributionSummary.builder("jdbc.statements.per.request")
+                .description("Statements run by a single HTTP request")
+                .register(registry);
+        tooManyStatements = flaggedCounter(registry, "too_many_statements");
+        repeatedStatements = flaggedCounter(registry, "repeated_statement");
+    }
+
+    private Counter flaggedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("jdbc.requests.flagged")
+                .tag("reason", reason)
+                .description("Requests over the statement count or repeat budget")
+                .register(registry);
+    }
+
+    private void check(HttpServletRequest request, QueryInspector.Scope scope) {
+        if (statementsPerRequest != null) {
+            statementsPerRequest.record(scope.statementCount());
+        }
+        String target = request.getMethod() + " " + request.getRequestURI();
+        if (scope.statementCount() > maxStatements) {
+            increment(tooManyStatements);
+            log.warn("{} ran {} statements (budget {})", target, scope.statementCount(), maxStatements);
+        }
+        if (scope.maxRepeats() > maxRepeats) {
+            increment(repeatedStatements);
+            log.warn("{} ran the same statement {} times, possible N+1: {}", target, scope.maxRepeats(),
+                    scope.mostRepeatedStatement());
+        }
+    }
+
+    private void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
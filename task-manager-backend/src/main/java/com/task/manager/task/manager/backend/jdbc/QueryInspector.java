@@ -0,0 +1,219 @@
+package com.task.manager.task.manager.backend.jdbc;
+
+import com.task.manager.task.manager.backend.cache.BoundedCache;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the statements run through the data source inside a {@link Scope} and logs the query plan of
+ * statements slower than the latency budget.
+ */
+public class QueryInspector implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInspector.class);
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final long explainThresholdMs;
+
+    private final BoundedCache<String, Boolean> recentlyExplained;
+
+    private final ExecutorService explainExecutor;
+
+    private volatile DataSource planDataSource;
+
+    public QueryInspector(long explainThresholdMs, Duration explainInterval) {
+        this.explainThresholdMs = explainThresholdMs;
+        this.recentlyExplained = new BoundedCache<>(1_000, explainInterval);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(16), runnable -> {
+                    Thread thread = new Thread(runnable, "query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Wraps the data source so every statement goes through this listener. Plans are read from the
+     * unwrapped one, so EXPLAIN statements are neither counted nor explained again.
+     */
+    public DataSource wrap(DataSource dataSource) {
+        this.planDataSource = dataSource;
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("tasks")
+                .listener(this)
+                .build();
+    }
+
+    /**
+     * Starts counting statements on the current thread until the scope is closed. Scopes can be nested;
+     * a statement counts towards every open scope.
+     */
+    public Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                scope.record(queryInfo.getQuery());
+            }
+        }
+        if (execInfo.getElapsedTime() >= explainThresholdMs && execInfo.isSuccess() && !execInfo.isBatch()
+                && queryInfoList.size() == 1) {
+            explainLater(queryInfoList.get(0), execInfo.getElapsedTime());
+        }
+    }
+
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explainLater(QueryInfo queryInfo, long elapsedMs) {
+        String sql = queryInfo.getQuery();
+        if (planDataSource == null || !isExplainable(sql) || recentlyExplained.get(sql) != null) {
+            return;
+        }
+        recentlyExplained.put(sql, Boolean.TRUE);
+        List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                ? List.of()
+                : queryInfo.getParametersList().get(0);
+        try {
+            explainExecutor.execute(() -> explain(sql, parameters, elapsedMs));
+        } catch (RejectedExecutionException e) {
+            recentlyExplained.evict(sql);
+        }
+    }
+
+    private void explain(String sql, List<ParameterSetOperation> parameters, long elapsedMs) {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = planDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (ParameterSetOperation parameter : parameters) {
+                Object[] args = parameter.getArgs();
+                if (args.length < 2 || !(args[0] instanceof Integer index)) {
+                    continue;
+                }
+                if ("setNull".equals(parameter.getMethod().getName())) {
+                    statement.setNull(index, (Integer) args[1]);
+                } else {
+                    statement.setObject(index, args[1]);
+                }
+            }
+            try (ResultSet rows = statement.executeQuery()) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                while (rows.next()) {
+                    plan.append(System.lineSeparator());
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        plan.append(metaData.getColumnLabel(column)).append('=').append(rows.getObject(column)).append(' ');
+                    }
+                }
+            }
+            log.warn("Slow statement ({} ms): {}{}", elapsedMs, sql, plan);
+        } catch (SQLException e) {
+            log.warn("Slow statement ({} ms): {} (plan unavailable: {})", elapsedMs, sql, e.getMessage());
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("update") || start.startsWith("delete");
+    }
+
+    /**
+     * Statements seen on one thread between {@link #begin()} and {@link #close()}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        private int statementCount;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            statementCount++;
+            executions.merge(sql, 1, Integer::sum);
+        }
+
+        public int statementCount() {
+            return statementCount;
+        }
+
+        /**
+         * Highest number of times a single statement ran, the usual sign of an N+1 select.
+         */
+        public int maxRepeats() {
+            return executions.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        public String mostRepeatedStatement() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+
+        /**
+         * Fails with an {@link AssertionError} listing the statements when more than {@code max} ran.
+         */
+        public void assertAtMost(int max) {
+            if (statementCount > max) {
+                throw new AssertionError("Expected at most " + max + " statements but " + statementCount
+                        + " ran: " + executions);
+            }
+        }
+
+        /**
+         * Fails with an {@link AssertionError} when any statement ran more than {@code max} times.
+         */
+        public void assertNoRepeatsOver(int max) {
+            if (maxRepeats() > max) {
+                throw new AssertionError("Statement ran " + maxRepeats() + " times, expected at most " + max
+                        + ": " + mostRepeatedStatement());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one item of a bulk request")
+public record BulkItemResultRecord(
+
+        @Schema(description = "Position of the item in the request", example = "0")
+        int index,
+
+        @Schema(description = "ID of the task the item refers to, when known", example = "1")
+        Long id,
+
+        @Schema(description = "Whether the item was applied", example = "true")
+        boolean success,
+
+        @Schema(description = "Reason the item was rejected", example = "Task title already exists")
+        String message
+) {
+
+    public static BulkItemResultRecord success(int index, Long id) {
+        return new BulkItemResultRecord(index, id, true, null);
+    }
+
+    public static BulkItemResultRecord failure(int index, Long id, String message) {
+        return new BulkItemResultRecord(index, id, false, message);
+    }
+}
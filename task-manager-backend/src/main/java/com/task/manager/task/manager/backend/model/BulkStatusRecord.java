@@ -0,0 +1,20 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@Schema(description = "DTO used for changing the status of several tasks at once")
+public record BulkStatusRecord(
+
+        @Schema(description = "IDs of the tasks to change", example = "[1, 2, 3]")
+        @NotEmpty(message = "Task IDs cannot be empty")
+        List<Long> ids,
+
+        @Schema(description = "New status of the tasks", example = "COMPLETED")
+        @NotNull(message = "Status cannot be null")
+        StatusEnum status
+) {
+}
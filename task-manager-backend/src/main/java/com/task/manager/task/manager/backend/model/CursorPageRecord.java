@@ -0,0 +1,19 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of results read after a cursor, without a total count")
+public record CursorPageRecord<T>(
+
+        @Schema(description = "Items of the page")
+        List<T> content,
+
+        @Schema(description = "Cursor to request the next page, absent on the last page")
+        String nextCursor,
+
+        @Schema(description = "Whether more items are available after this page")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,14 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A line of an import that was not saved")
+public record ImportErrorRecord(
+
+        @Schema(description = "Line of the uploaded file, starting at 1", example = "42")
+        long line,
+
+        @Schema(description = "Why the line was rejected", example = "Task title already exists")
+        String message
+) {
+}
@@ -0,0 +1,22 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a task import")
+public record ImportReportRecord(
+
+        @Schema(description = "Number of tasks created", example = "99998")
+        long imported,
+
+        @Schema(description = "Number of lines rejected", example = "2")
+        long failed,
+
+        @Schema(description = "Rejected lines by line number, up to the configured limit")
+        List<ImportErrorRecord> errors,
+
+        @Schema(description = "Whether more lines were rejected than are listed in errors")
+        boolean errorsTruncated
+) {
+}
@@ -0,0 +1,13 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "DTO used for refreshing or revoking tokens")
+public record RefreshRecord(
+
+        @Schema(description = "Refresh token returned by the last login or refresh")
+        @NotBlank(message = "Refresh token cannot be blank or null")
+        String refreshToken
+) {
+}
@@ -1,15 +1,27 @@
 package com.task.manager.task.manager.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.Date;
 
+/**
+ * Deliberately kept out of the second-level cache: it is local to each instance, and task reads feed ETags and
+ * version checks that must agree across instances.
+ */
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_user_title_deleted", columnList = "user_id, title, deleted"),
+        @Index(name = "idx_task_user_deleted_deadline", columnList = "user_id, deleted, dead_line, id"),
+        @Index(name = "idx_task_user_status_deleted_deadline", columnList = "user_id, status, deleted, dead_line, id"),
+        @Index(name = "idx_task_deadline_status_deleted", columnList = "dead_line, status, deleted")
+})
+@DynamicUpdate
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,10 +33,10 @@ public class Task {
     @Column(nullable = false)
     private StatusEnum status;
 
-    @Column(nullable = false)
+    @Column(name = "create_date", nullable = false)
     private Date createDate;
 
-    @Column(nullable = false)
+    @Column(name = "dead_line", nullable = false)
     private Date deadLine;
 
     @ManyToOne
@@ -34,6 +46,10 @@ public class Task {
     @Column(name = "deleted",nullable = false)
     private boolean deleted;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     public Long getId() {
         return id;
     }
@@ -97,4 +113,12 @@ public class Task {
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,34 @@
+package com.task.manager.task.manager.backend.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of the last task of a page in (deadLine, id) order, exchanged with clients as an opaque string.
+ */
+public record TaskCursor(Date deadLine, Long id) {
+
+    public static final TaskCursor START = new TaskCursor(new Date(0), 0L);
+
+    public static TaskCursor of(TaskRecord task) {
+        return new TaskCursor(task.deadLine(), task.id());
+    }
+
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new TaskCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String value = deadLine.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Date;
+
+@Schema(description = "DTO used for partially updating a task. Fields left null are not changed")
+public record TaskPatchRecord(
+
+        @Schema(description = "Title of the task", example = "Implement API")
+        String title,
+
+        @Schema(description = "Detailed description of the task", example = "Implement API for user management")
+        String description,
+
+        @Schema(description = "Task status", example = "IN_PROGRESS")
+        StatusEnum status,
+
+        @Schema(description = "The deadline for the task. Must be a future date.", example = "2025-03-01T10:00:00Z")
+        Date deadLine,
+
+        @Schema(description = "Version the client last read. When given, the update is rejected if the task changed since", example = "0")
+        Long version
+) {
+}
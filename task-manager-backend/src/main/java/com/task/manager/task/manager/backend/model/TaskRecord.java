@@ -0,0 +1,43 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Date;
+
+@Schema(description = "Task as returned by the API, with only the id and name of the assigned user")
+public record TaskRecord(
+
+        @Schema(description = "Task ID", example = "1")
+        Long id,
+
+        @Schema(description = "Title of the task", example = "Implement API")
+        String title,
+
+        @Schema(description = "Detailed description of the task", example = "Implement API for user management")
+        String description,
+
+        @Schema(description = "Task status", example = "PENDING")
+        StatusEnum status,
+
+        @Schema(description = "When the task was created")
+        Date createDate,
+
+        @Schema(description = "The deadline for the task")
+        Date deadLine,
+
+        @Schema(description = "ID of the user assigned to the task", example = "1")
+        Long assignedToId,
+
+        @Schema(description = "Name of the user assigned to the task", example = "Johnny")
+        String assignedToUsername,
+
+        @Schema(description = "Version of the task, sent back on partial updates to detect concurrent edits", example = "0")
+        Long version
+) {
+
+    public static TaskRecord from(Task task) {
+        User user = task.getAssignedTo();
+        return new TaskRecord(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getCreateDate(), task.getDeadLine(), user.getId(), user.getUsername(), task.getVersion());
+    }
+}
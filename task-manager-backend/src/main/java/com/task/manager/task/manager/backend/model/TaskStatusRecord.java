@@ -0,0 +1,13 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "DTO used for changing the status of a task")
+public record TaskStatusRecord(
+
+        @Schema(description = "New status of the task", example = "IN_PROGRESS")
+        @NotNull(message = "Status cannot be null")
+        StatusEnum status
+) {
+}
@@ -0,0 +1,22 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Task counts of the authenticated user for the dashboard")
+public record TaskSummaryRecord(
+
+        @Schema(description = "Number of active tasks per status")
+        Map<StatusEnum, Long> byStatus,
+
+        @Schema(description = "Number of active tasks", example = "12")
+        long total,
+
+        @Schema(description = "Tasks not completed whose deadline has passed", example = "2")
+        long overdue,
+
+        @Schema(description = "Tasks not completed that are due later today", example = "1")
+        long dueToday
+) {
+}
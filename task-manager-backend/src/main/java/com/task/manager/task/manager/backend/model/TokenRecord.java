@@ -0,0 +1,17 @@
+package com.task.manager.task.manager.backend.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Tokens returned by login and refresh")
+public record TokenRecord(
+
+        @Schema(description = "JWT to send as Bearer token on every request")
+        String accessToken,
+
+        @Schema(description = "Opaque token used once to obtain a new pair of tokens")
+        String refreshToken,
+
+        @Schema(description = "Seconds until the access token expires", example = "900")
+        long expiresIn
+) {
+}
@@ -1,6 +1,8 @@
 package com.task.manager.task.manager.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,10 +13,13 @@ import java.util.List;
 
 @Entity
 @Table(name = "user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,6 +31,12 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * Bumped in the transaction of every write to the user's tasks, so listings can be revalidated with a primary key read.
+     */
+    @Column(name = "tasks_modified", nullable = false)
+    private long tasksModified;
+
     @OneToMany(mappedBy = "assignedTo", cascade = CascadeType.ALL, orphanRemoval = true)
     private transient List<Task> tasks = new ArrayList<>();
 
@@ -84,6 +95,10 @@ public class User implements UserDetails {
         this.email = email;
     }
 
+    public long getTasksModified() {
+        return tasksModified;
+    }
+
     public List<Task> getTasks() {
         return tasks;
     }
@@ -0,0 +1,21 @@
+package com.task.manager.task.manager.backend.repository;
+
+import com.task.manager.task.manager.backend.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken,Long> {
+
+    RefreshToken findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.id = :id and r.revoked = false")
+    int revokeById(Long id);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.family = :family and r.revoked = false")
+    int revokeFamily(String family);
+}
@@ -2,23 +2,128 @@ package com.task.manager.task.manager.backend.repository;
 
 import com.task.manager.task.manager.backend.model.StatusEnum;
 import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task,Long> {
 
-    @Query(value = "Select * from task where title = :title and deleted = false", nativeQuery = true)
-    Optional<Task> findByTitle(String title);
+    /**
+     * Makes MySQL Connector/J stream rows one by one instead of reading the whole result into memory.
+     */
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
 
-    @Query(value = "Select * from task where status = :status and user_id = :userId and deleted = false",nativeQuery = true)
-    Page<Task> findByStatus(Long userId,StatusEnum status,Pageable pageable);
+    String TASK_RECORD_SELECT = "select new com.task.manager.task.manager.backend.model.TaskRecord(" +
+            "t.id, t.title, t.description, t.status, t.createDate, t.deadLine, u.id, u.username, t.version) " +
+            "from Task t join t.assignedTo u ";
 
-    @Query(value = "SELECT * FROM task WHERE user_id = :userId and deleted = false", nativeQuery = true)
-    Page<Task> findByUserId(Long userId, Pageable pageable);
+    @Query("select case when count(t) > 0 then true else false end from Task t where t.assignedTo.id = :userId and t.title = :title and t.deleted = false")
+    boolean existsActiveTitle(Long userId, String title);
+
+    @Query("select t.assignedTo.id, t.title from Task t where t.assignedTo.id in :userIds and t.title in :titles and t.deleted = false")
+    List<Object[]> findActiveTitles(Collection<Long> userIds, Collection<String> titles);
+
+    /**
+     * Id, status and deadline of the active tasks among {@code ids}, locked until the end of the transaction so the
+     * update that follows reports the state it actually replaced.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id, t.status, t.deadLine from Task t where t.id in :ids and t.assignedTo.id = :userId and t.deleted = false")
+    List<Object[]> findActiveStatuses(Long userId, Collection<Long> ids);
+
+    @Modifying
+    @Query("update Task t set t.deleted = true, t.version = t.version + 1 where t.id = :id and t.assignedTo.id = :userId and t.deleted = false")
+    int softDeleteById(Long id, Long userId);
+
+    @Modifying
+    @Query("update Task t set t.status = :status, t.version = t.version + 1 where t.id = :id and t.assignedTo.id = :userId and t.deleted = false")
+    int updateStatus(Long id, Long userId, StatusEnum status);
+
+    @Modifying
+    @Query("update Task t set t.deleted = true, t.version = t.version + 1 where t.id in :ids and t.assignedTo.id = :userId and t.deleted = false")
+    int softDeleteAll(Long userId, Collection<Long> ids);
+
+    @Modifying
+    @Query("update Task t set t.status = :status, t.version = t.version + 1 where t.id in :ids and t.assignedTo.id = :userId and t.deleted = false")
+    int updateStatusAll(Long userId, Collection<Long> ids, StatusEnum status);
+
+    @Query(value = TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.status = :status and t.deleted = false",
+            countQuery = "select count(t) from Task t where t.assignedTo.id = :userId and t.status = :status and t.deleted = false")
+    Page<TaskRecord> findByStatus(Long userId,StatusEnum status,Pageable pageable);
+
+    @Query(value = TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.deleted = false",
+            countQuery = "select count(t) from Task t where t.assignedTo.id = :userId and t.deleted = false")
+    Page<TaskRecord> findByUserId(Long userId, Pageable pageable);
+
+    @Query(TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.status = :status and t.deleted = false")
+    Slice<TaskRecord> findSliceByStatus(Long userId,StatusEnum status,Pageable pageable);
+
+    @Query(TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.deleted = false")
+    Slice<TaskRecord> findSliceByUserId(Long userId, Pageable pageable);
+
+    @Query(TASK_RECORD_SELECT + "where t.id in :ids and t.assignedTo.id = :userId and t.deleted = false")
+    List<TaskRecord> findRecordsByIds(Long userId, Collection<Long> ids);
+
+    /**
+     * Ids of the user's tasks matching a boolean-mode full-text query, best matches first.
+     * Backed by the {@code ft_task_title_description} index.
+     */
+    @Query(value = "select t.id from task t where t.user_id = :userId and t.deleted = false " +
+            "and match(t.title, t.description) against (:query in boolean mode) " +
+            "order by match(t.title, t.description) against (:query in boolean mode) desc, t.id",
+            nativeQuery = true)
+    Slice<Long> searchIds(Long userId, String query, Pageable pageable);
+
+    /**
+     * Every active task of the user, read through a forward-only cursor. Must be consumed and closed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.deleted = false order by t.id")
+    Stream<TaskRecord> streamByUserId(Long userId);
+
+    @Query("select t.status, count(t) from Task t where t.assignedTo.id = :userId and t.deleted = false group by t.status")
+    List<Object[]> countByStatus(Long userId);
+
+    @Query("select sum(case when t.deadLine < :now then 1 else 0 end), sum(case when t.deadLine >= :now then 1 else 0 end) " +
+            "from Task t where t.assignedTo.id = :userId and t.deleted = false and t.deadLine < :endOfDay and t.status <> :completed")
+    List<Object[]> countDeadlines(Long userId, Date now, Date endOfDay, StatusEnum completed);
+
+    /**
+     * Unfinished tasks of every user due after (deadLine, id) and up to {@code until}, in deadline order.
+     */
+    @Query("select t.id, t.deadLine from Task t where t.deleted = false and t.status <> :completed " +
+            "and (t.deadLine > :deadLine or (t.deadLine = :deadLine and t.id > :id)) and t.deadLine <= :until " +
+            "order by t.deadLine, t.id")
+    List<Object[]> findDeadlinesAfter(Date deadLine, Long id, Date until, StatusEnum completed, Pageable pageable);
+
+    @Query("select t.id, t.assignedTo.id, t.status, t.deadLine from Task t where t.id in :ids and t.deleted = false " +
+            "and t.status <> :completed and t.deadLine > :from and t.deadLine <= :to")
+    List<Object[]> findDueBetween(Collection<Long> ids, Date from, Date to, StatusEnum completed);
+
+    @Query(TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.deleted = false " +
+            "and (t.deadLine > :deadLine or (t.deadLine = :deadLine and t.id > :id)) order by t.deadLine, t.id")
+    Slice<TaskRecord> findByUserIdAfter(Long userId, Date deadLine, Long id, Pageable pageable);
+
+    @Query(TASK_RECORD_SELECT + "where t.assignedTo.id = :userId and t.status = :status and t.deleted = false " +
+            "and (t.deadLine > :deadLine or (t.deadLine = :deadLine and t.id > :id)) order by t.deadLine, t.id")
+    Slice<TaskRecord> findByStatusAfter(Long userId, StatusEnum status, Date deadLine, Long id, Pageable pageable);
 }
@@ -2,11 +2,25 @@ package com.task.manager.task.manager.backend.repository;
 
 import com.task.manager.task.manager.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
 
     UserDetails findByUsername(String username);
+
+    /**
+     * Must run in the transaction that writes the tasks, so the counter and the tasks commit together.
+     */
+    @Modifying
+    @Query("update User u set u.tasksModified = u.tasksModified + 1 where u.id in :ids")
+    int touchTasks(Collection<Long> ids);
+
+    @Query("select u.tasksModified from User u where u.id = :id")
+    Long findTasksModified(Long id);
 }
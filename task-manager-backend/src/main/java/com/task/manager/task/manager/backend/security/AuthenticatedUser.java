@@ -0,0 +1,59 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.task.manager.task.manager.backend.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * Immutable principal, rebuilt from the claims of a verified token or copied from the user entity, so it can be
+ * shared across requests. The password hash is null when it comes from a token.
+ */
+public record AuthenticatedUser(Long id, String username, String password, List<GrantedAuthority> authorities)
+        implements UserDetails {
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(),
+                List.copyOf(user.getAuthorities()));
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
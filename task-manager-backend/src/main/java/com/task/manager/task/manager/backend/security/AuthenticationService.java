@@ -1,18 +1,23 @@
 package com.task.manager.task.manager.backend.security;
 
+import com.task.manager.task.manager.backend.model.User;
 import com.task.manager.task.manager.backend.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class AuthenticationService implements UserDetailsService {
+public class AuthenticationService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
-    public AuthenticationService(UserRepository userRepository) {
+    private final PrincipalCache principalCache;
+
+    public AuthenticationService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -20,4 +25,16 @@ public class AuthenticationService implements UserDetailsService {
         return userRepository.findByUsername(username);
     }
 
+    /**
+     * Called after a successful login when the stored hash uses a lower strength than the configured one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = (User) user;
+        entity.setPassword(newPassword);
+        User saved = userRepository.save(entity);
+        principalCache.evict(saved.getUsername());
+        return saved;
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Signing keys indexed by key id: the active key signs new tokens, and verification keys only accept tokens signed
+ * before a rotation until they expire. Algorithms and verifiers are built once per key and are thread-safe.
+ */
+public class JwtKeyring {
+
+    private final Map<String, SigningKey> keys;
+
+    private final String legacyKeyId;
+
+    private final SigningKey active;
+
+    public JwtKeyring(String keyId, String secret, Map<String, String> verificationKeys, String issuer) {
+        Map<String, SigningKey> keys = new HashMap<>();
+        verificationKeys.forEach((id, verificationSecret) -> keys.put(id, key(id, verificationSecret, issuer)));
+        this.active = key(keyId, secret, issuer);
+        keys.put(keyId, active);
+        this.keys = Map.copyOf(keys);
+        this.legacyKeyId = keyId;
+    }
+
+    public SigningKey active() {
+        return active;
+    }
+
+    public SigningKey find(String keyId) {
+        SigningKey key = keys.get(keyId == null ? legacyKeyId : keyId);
+        if (key == null) {
+            throw new JWTVerificationException("Unknown signing key");
+        }
+        return key;
+    }
+
+    private static SigningKey key(String keyId, String secret, String issuer) {
+        if (keyId == null || keyId.isBlank() || secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Key id and secret cannot be blank");
+        }
+        Algorithm algorithm = Algorithm.HMAC256(secret);
+        JWTVerifier verifier = JWT.require(algorithm)
+                .withIssuer(issuer)
+                .build();
+        return new SigningKey(keyId, algorithm, verifier);
+    }
+
+    public record SigningKey(String id, Algorithm algorithm, JWTVerifier verifier) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.task.manager.task.manager.backend.security;
+
+/**
+ * Thrown when the password hashing pool is saturated and the caller should retry later.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public static final String MESSAGE = "Too many password checks in progress, try again shortly";
+
+    public PasswordHashingUnavailableException() {
+        super(MESSAGE);
+    }
+
+    /**
+     * Whether {@code e} or one of its causes is this exception. Spring Security wraps it in an
+     * {@code InternalAuthenticationServiceException} when the hash is checked for an unknown user.
+     */
+    public static boolean isCauseOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingUnavailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
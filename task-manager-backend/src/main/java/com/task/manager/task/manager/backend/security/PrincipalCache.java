@@ -0,0 +1,59 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.task.manager.task.manager.backend.cache.BoundedCache;
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Principals by username, cached as {@link AuthenticatedUser} snapshots rather than the user entity, so concurrent
+ * requests never share a mutable, possibly detached entity. Evicted when the stored password hash changes.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+
+    private final BoundedCache<String, AuthenticatedUser> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${api.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${api.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public AuthenticatedUser findByUsername(String username) {
+        return cache.get(username, name -> {
+            User user = (User) userRepository.findByUsername(name);
+            return user == null ? null : AuthenticatedUser.from(user);
+        });
+    }
+
+    public void evict(String username) {
+        cache.evict(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.principal.cache.hits", cache, BoundedCache::hitCount)
+                .description("Authenticated requests resolved from the principal cache")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.misses", cache, BoundedCache::missCount)
+                .description("Authenticated requests that had to load the user from the database")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.evictions", cache, BoundedCache::evictionCount)
+                .description("Principals dropped because of size or expiration")
+                .register(registry);
+        Gauge.builder("security.principal.cache.size", cache, BoundedCache::size)
+                .description("Principals currently cached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.task.manager.task.manager.backend.model.RefreshToken;
+import com.task.manager.task.manager.backend.model.TokenRecord;
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens. Only a SHA-256 hash of each token is stored, which is enough for random 256-bit values
+ * and keeps a refresh down to one indexed lookup. Every refresh revokes the token it used and issues a new one in
+ * the same family; presenting a used token again revokes the whole family.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final String INVALID_TOKEN = "Invalid refresh token";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final TokenService tokenService;
+
+    private final Duration refreshTokenTtl;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, TokenService tokenService,
+                               @Value("${api.security.refresh-token.ttl-days:30}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenService = tokenService;
+        this.refreshTokenTtl = Duration.ofDays(ttlDays);
+    }
+
+    public TokenRecord issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Family revocation has to be committed even though the refresh is rejected.
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public TokenRecord refresh(String rawToken) {
+        RefreshToken stored = find(rawToken);
+        if (stored == null || stored.getExpiresAt().before(new Date())) {
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
+        // The conditional update also catches two refreshes racing with the same token.
+        if (stored.isRevoked() || refreshTokenRepository.revokeById(stored.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(stored.getFamily());
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
+        return issue(stored.getUser(), stored.getFamily());
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        RefreshToken stored = find(rawToken);
+        if (stored != null) {
+            refreshTokenRepository.revokeFamily(stored.getFamily());
+        }
+    }
+
+    private RefreshToken find(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return null;
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken));
+    }
+
+    private TokenRecord issue(User user, String family) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setFamily(family);
+        refreshToken.setUser(user);
+        refreshToken.setCreateDate(new Date());
+        refreshToken.setExpiresAt(Date.from(Instant.now().plus(refreshTokenTtl)));
+        refreshTokenRepository.save(refreshToken);
+
+        return new TokenRecord(tokenService.generateToken(user), rawToken, tokenService.getAccessTokenTtl().toSeconds());
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.task.manager.task.manager.backend.security;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,10 +11,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfiguration {
@@ -28,9 +31,13 @@ public class SecurityConfiguration {
         return httpSecurity.csrf(csrf -> csrf.disable()).sessionManagement(sm->
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(req -> {
-                    req.requestMatchers(HttpMethod.POST,"/login").permitAll();
+                    // Task streams complete on an async dispatch that carries no token; the request was authorized when it started.
+                    req.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                    req.requestMatchers(HttpMethod.POST,"/login", "/login/refresh", "/login/revoke").permitAll();
                     req.requestMatchers(HttpMethod.POST,"user/register").permitAll();
                     req.requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll();
+                    // Served on the management port, which only listens on localhost.
+                    req.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
                     req.anyRequest().authenticated();
                 })
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
@@ -42,8 +49,14 @@ public class SecurityConfiguration {
         return configuration.getAuthenticationManager();
     }
 
+    /**
+     * Raising the strength makes {@link AuthenticationService} rehash each user's password on their next login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PooledPasswordEncoder passwordEncoder(@Value("${api.security.password.strength:10}") int strength,
+                                                 @Value("${api.security.password.threads:4}") int threads,
+                                                 @Value("${api.security.password.queue-size:32}") int queueSize,
+                                                 @Value("${api.security.password.timeout-ms:5000}") long timeoutMillis){
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueSize, Duration.ofMillis(timeoutMillis));
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.task.manager.task.manager.backend.security;
 
-import com.task.manager.task.manager.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,17 +15,28 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class SecurityFilter extends OncePerRequestFilter {
+public class SecurityFilter extends OncePerRequestFilter implements MeterBinder {
 
     private final TokenService tokenService;
 
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    private final boolean stateless;
+
+    private volatile Timer authenticatedTimer;
+
+    private volatile Timer unauthenticatedTimer;
+
+    private volatile Timer rejectedTimer;
+
+    public SecurityFilter(TokenService tokenService, PrincipalCache principalCache,
+                          @Value("${api.security.token.stateless:false}") boolean stateless) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.stateless = stateless;
     }
 
     @Override
@@ -30,17 +44,57 @@ public class SecurityFilter extends OncePerRequestFilter {
         String token = recoverToken(request);
 
         if (token !=null){
-            String subject = tokenService.getSubject(token);
-            UserDetails user = userRepository.findByUsername(subject);
+            long start = System.nanoTime();
+            UserDetails user;
+            try {
+                user = resolvePrincipal(token);
+            } catch (RuntimeException e) {
+                record(rejectedTimer, start);
+                throw e;
+            }
+            record(user != null ? authenticatedTimer : unauthenticatedTimer, start);
 
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            if (user != null) {
+                UsernamePasswordAuthenticationToken authenticationToken =
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
         }
 
         filterChain.doFilter(request,response);
     }
 
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        authenticatedTimer = resolveTimer(registry, "authenticated");
+        unauthenticatedTimer = resolveTimer(registry, "unknown_user");
+        rejectedTimer = resolveTimer(registry, "rejected");
+    }
+
+    private Timer resolveTimer(MeterRegistry registry, String result) {
+        return Timer.builder("security.filter.resolve")
+                .tag("result", result)
+                .description("Time spent turning the bearer token into the request principal")
+                .register(registry);
+    }
+
+    private void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private UserDetails resolvePrincipal(String token) {
+        if (stateless) {
+            AuthenticatedUser principal = tokenService.getPrincipal(token);
+            if (principal != null) {
+                return principal;
+            }
+        }
+        String subject = tokenService.getSubject(token);
+        return principalCache.findByUsername(subject);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         String auth = request.getHeader("Authorization");
         if (auth !=null){
@@ -1,58 +1,250 @@
 package com.task.manager.task.manager.backend.security;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.task.manager.task.manager.backend.cache.BoundedCache;
 import com.task.manager.task.manager.backend.model.User;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Signs access tokens with {@code api.security.token.secret} under {@code key-id}, and also accepts tokens signed with
+ * {@code api.security.token.verification-keys} (key id to secret). Those can also come from
+ * {@code verification-keys-file}, a properties file that is read again every {@code verification-keys-reload-seconds}
+ * when it changes, so verification keys are added and removed without a restart.
+ * <p>
+ * A rolling restart runs old and new instances side by side, so a rotation takes two phases:
+ * <ol>
+ *     <li>add the new key id and secret to the keys file, and wait until every instance has reloaded it;</li>
+ *     <li>switch {@code secret} and {@code key-id} to the new key with a rolling restart, keeping the old pair in the
+ *     keys file, and remove it once {@code access-ttl-minutes} has passed and every token it signed has expired.</li>
+ * </ol>
+ * Switching the signing key first would let restarted instances issue tokens that the others still reject.
+ */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String VERIFICATION_KEYS_PROPERTY = "api.security.token.verification-keys";
+
+    private static final String USER_ID_CLAIM = "userId";
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private static final String ISSUER = "Task Manager API";
+
+    private final String secret;
+
+    private final String keyId;
+
+    private final Map<String, String> verificationKeys;
+
+    private final Path verificationKeysFile;
+
+    private final long reloadSeconds;
+
+    private final BoundedCache<String, DecodedJWT> verifiedTokens;
+
+    private final Duration accessTokenTtl;
+
+    private volatile JwtKeyring keyring;
+
+    private long verificationKeysModified = -1;
+
+    private ScheduledExecutorService reloader;
+
+    @Autowired
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.key-id:default}") String keyId,
+                        Environment environment,
+                        @Value("${api.security.token.verification-keys-file:}") String verificationKeysFile,
+                        @Value("${api.security.token.verification-keys-reload-seconds:30}") long reloadSeconds,
+                        @Value("${api.security.token.verified-cache.max-size:10000}") int verifiedCacheSize,
+                        @Value("${api.security.token.access-ttl-minutes:15}") long accessTtlMinutes) {
+        this(secret, keyId,
+                Binder.get(environment).bind(VERIFICATION_KEYS_PROPERTY, Bindable.mapOf(String.class, String.class)).orElse(Map.of()),
+                verificationKeysFile.isBlank() ? null : Path.of(verificationKeysFile), reloadSeconds,
+                verifiedCacheSize, accessTtlMinutes);
+    }
+
+    public TokenService(String secret, String keyId, Map<String, String> verificationKeys, int verifiedCacheSize,
+                        long accessTtlMinutes) {
+        this(secret, keyId, verificationKeys, null, 0, verifiedCacheSize, accessTtlMinutes);
+    }
+
+    TokenService(String secret, String keyId, Map<String, String> verificationKeys, Path verificationKeysFile,
+                 long reloadSeconds, int verifiedCacheSize, long accessTtlMinutes) {
+        this.secret = secret;
+        this.keyId = keyId;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.verificationKeysFile = verificationKeysFile;
+        this.reloadSeconds = reloadSeconds;
+        this.accessTokenTtl = Duration.ofMinutes(accessTtlMinutes);
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? new BoundedCache<>(verifiedCacheSize, accessTokenTtl)
+                : null;
+        this.keyring = new JwtKeyring(keyId, secret, this.verificationKeys, ISSUER);
+        reloadVerificationKeys();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (verificationKeysFile == null || reloadSeconds <= 0) {
+            return;
+        }
+        reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-keys-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloader.scheduleWithFixedDelay(this::reloadVerificationKeys, reloadSeconds, reloadSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * Rebuilds the keyring when the keys file changed. Keys in the file win over configured ones with the same id;
+     * an unreadable or invalid file keeps the current keyring.
+     */
+    synchronized void reloadVerificationKeys() {
+        if (verificationKeysFile == null) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(verificationKeysFile).toMillis();
+            if (modified == verificationKeysModified) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(verificationKeysFile)) {
+                properties.load(reader);
+            }
+            Map<String, String> keys = new HashMap<>(verificationKeys);
+            properties.stringPropertyNames().forEach(id -> keys.put(id, properties.getProperty(id)));
+            keyring = new JwtKeyring(keyId, secret, keys, ISSUER);
+            verificationKeysModified = modified;
+            if (verifiedTokens != null) {
+                // Tokens of a removed key must not stay accepted through the cache.
+                verifiedTokens.clear();
+            }
+            log.info("Loaded {} verification keys from {}", properties.size(), verificationKeysFile);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not load verification keys from {}: {}", verificationKeysFile, e.getMessage());
+        }
+    }
 
     public String generateToken(User user){
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            JwtKeyring.SigningKey key = keyring.active();
             return JWT.create()
-                    .withIssuer("Task Manager API")
+                    .withIssuer(ISSUER)
+                    .withKeyId(key.id())
                     .withSubject(user.getUsername())
-                    .withClaim("userId",user.getId())
+                    .withClaim(USER_ID_CLAIM,user.getId())
+                    .withClaim(ROLES_CLAIM,user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
                     .withExpiresAt(loginTimeExpiration())
-                    .sign(algorithm);
+                    .sign(key.algorithm());
         } catch (JWTCreationException exception){
             throw new JWTCreationException("Error: ",exception);
         }
     }
 
+    public Duration getAccessTokenTtl(){
+        return accessTokenTtl;
+    }
+
+    @Timed(value = "security.token.verify", description = "Time spent verifying access tokens")
     public String getSubject(String tokenJWT){
-        try{
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("Task Manager API")
-                    .build()
-                    .verify(tokenJWT)
-                    .getSubject();
-        }catch (JWTCreationException e){
-            throw new JWTVerificationException("Token JWT expired");
+        return verify(tokenJWT).getSubject();
+    }
+
+    /**
+     * Verifies the token and builds the principal from its claims.
+     * Returns null for tokens issued before the claims were embedded, so callers can fall back to a user lookup.
+     */
+    @Timed(value = "security.token.verify", description = "Time spent verifying access tokens")
+    public AuthenticatedUser getPrincipal(String tokenJWT){
+        DecodedJWT jwt = verify(tokenJWT);
+        Claim userId = jwt.getClaim(USER_ID_CLAIM);
+        Claim roles = jwt.getClaim(ROLES_CLAIM);
+        if (userId.isMissing() || userId.isNull() || roles.isMissing() || roles.isNull()) {
+            return null;
         }
 
+        List<GrantedAuthority> authorities = roles.asList(String.class).stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+        return new AuthenticatedUser(userId.asLong(), jwt.getSubject(), null, authorities);
     }
 
     public Long getAuthenticatedUserId() {
-        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.id();
+        }
+        User user = (User) principal;
         return user.getId();
     }
 
+    private DecodedJWT verify(String tokenJWT){
+        if (verifiedTokens != null) {
+            DecodedJWT cached = verifiedTokens.get(tokenJWT);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try{
+            DecodedJWT decoded = JWT.decode(tokenJWT);
+            DecodedJWT verified = keyring.find(decoded.getKeyId()).verifier().verify(decoded);
+            if (verifiedTokens != null && verified.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(tokenJWT, verified, verified.getExpiresAtAsInstant());
+            }
+            return verified;
+        }catch (JWTCreationException e){
+            throw new JWTVerificationException("Token JWT expired");
+        }
+    }
+
+    /**
+     * Access tokens are short-lived; clients renew them through the refresh token instead of logging in again.
+     */
     private Instant loginTimeExpiration(){
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        return Instant.now().plus(accessTokenTtl);
     }
-}
\ No newline at end of file
+}
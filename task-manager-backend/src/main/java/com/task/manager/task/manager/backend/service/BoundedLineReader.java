@@ -0,0 +1,80 @@
+package com.task.manager.task.manager.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines ended by {@code \n}, {@code \r} or {@code \r\n}, holding at most {@code maxLength} characters of a line.
+ */
+class BoundedLineReader {
+
+    private final Reader reader;
+
+    private final int maxLength;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private int peeked = -2;
+
+    private long line;
+
+    BoundedLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Next line without its terminator, or null at the end of the input.
+     *
+     * @throws IllegalArgumentException when the line is longer than the limit; the rest of it has been skipped
+     */
+    String next() throws IOException {
+        if (peek() < 0) {
+            return null;
+        }
+        line++;
+        text.setLength(0);
+        boolean tooLong = false;
+        while (true) {
+            int c = read();
+            if (c < 0 || c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            }
+            if (text.length() < maxLength) {
+                text.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (tooLong) {
+            throw new IllegalArgumentException("Line is longer than " + maxLength + " characters");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Number of the line last returned by {@link #next()}.
+     */
+    long line() {
+        return line;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        return c;
+    }
+}
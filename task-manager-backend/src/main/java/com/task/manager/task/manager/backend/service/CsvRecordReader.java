@@ -0,0 +1,110 @@
+package com.task.manager.task.manager.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time: quoted fields may hold commas, doubled quotes and line breaks.
+ * Records end at {@code \n}, {@code \r} or {@code \r\n} and hold at most {@code maxLength} characters.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+
+    private final int maxLength;
+
+    private int peeked = -2;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    CsvRecordReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Fields of the next record, or null at the end of the input.
+     *
+     * @throws IllegalArgumentException when the record is malformed or longer than the limit; a record over the
+     *                                  limit has been skipped, so reading can go on
+     */
+    List<String> next() throws IOException {
+        if (peek() < 0) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        long length = 0;
+        boolean fieldStarted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    if (peek() != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                    read();
+                }
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+                continue;
+            } else if (c == ',' || c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (length <= maxLength) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                fieldStarted = false;
+                if (c == ',') {
+                    length++;
+                    continue;
+                }
+                if (length > maxLength) {
+                    throw new IllegalArgumentException("Record is longer than " + maxLength + " characters");
+                }
+                return fields;
+            }
+            fieldStarted = true;
+            // Past the limit the record is still parsed to find where it ends, but its fields are no longer kept.
+            if (++length <= maxLength) {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Line of the input where the record last returned by {@link #next()} starts.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        if (c == '\n' || (c == '\r' && peek() != '\n')) {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,282 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes an {@link TaskChangedEvent.Type#OVERDUE} event when the deadline of an unfinished task passes.
+ * Upcoming deadlines are kept in a hashed timing wheel of task ids: one slot per tick, covering
+ * {@code slots * tick} ahead. The wheel is filled from the deadline index a batch per tick, never holding more than
+ * {@code max-pending} loaded ids, and tasks written with a deadline the loader has already passed are added from their events,
+ * or handed back to the loader when the wheel is full.
+ * Slots only hold candidates: when a slot is due its tasks are read again, so completed, deleted or rescheduled
+ * tasks are skipped and every task fires once, in the tick its current deadline falls in.
+ */
+@Service
+public class DeadlineScheduler implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineScheduler.class);
+
+    private static final int VERIFY_CHUNK_SIZE = 1_000;
+
+    private final TaskRepository taskRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Clock clock;
+
+    private final long tickMillis;
+
+    private final long[][] slotIds;
+
+    private final int[] slotSizes;
+
+    private final int maxPending;
+
+    private final int loadBatchSize;
+
+    private final boolean enabled;
+
+    private final LongAdder fired = new LongAdder();
+
+    private ScheduledExecutorService ticker;
+
+    private int pending;
+
+    private long lastTick = -1;
+
+    private long cursorDeadline;
+
+    private long cursorId;
+
+    @Autowired
+    public DeadlineScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                             @Value("${api.tasks.deadlines.tick-millis:1000}") long tickMillis,
+                             @Value("${api.tasks.deadlines.slots:3600}") int slots,
+                             @Value("${api.tasks.deadlines.max-pending:1000000}") int maxPending,
+                             @Value("${api.tasks.deadlines.load-batch-size:5000}") int loadBatchSize,
+                             @Value("${api.tasks.deadlines.enabled:true}") boolean enabled) {
+        this(taskRepository, eventPublisher, Clock.systemUTC(), tickMillis, slots, maxPending, loadBatchSize, enabled);
+    }
+
+    DeadlineScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, Clock clock,
+                      long tickMillis, int slots, int maxPending, int loadBatchSize, boolean enabled) {
+        if (tickMillis <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("Deadline tick and slots must be greater than zero");
+        }
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.slotIds = new long[slots][];
+        this.slotSizes = new int[slots];
+        this.maxPending = maxPending;
+        this.loadBatchSize = loadBatchSize;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::safeTick, 0, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Fires the slots that are due, then loads the next batch of deadlines. Deadlines that passed before the
+     * first tick are not reported.
+     */
+    void tick() {
+        long now = clock.millis();
+        long currentTick = Math.floorDiv(now, tickMillis);
+        long firstTick;
+        Set<Long> due = new LinkedHashSet<>();
+        synchronized (this) {
+            if (lastTick < 0) {
+                lastTick = currentTick;
+                cursorDeadline = currentTick * tickMillis;
+                cursorId = Long.MAX_VALUE;
+            }
+            firstTick = lastTick;
+            for (long tick = Math.max(lastTick + 1, currentTick - slotIds.length + 1); tick <= currentTick; tick++) {
+                drain(slot(tick), due);
+            }
+            lastTick = Math.max(lastTick, currentTick);
+            if (cursorDeadline < lastTick * tickMillis) {
+                // The loader fell behind while the wheel was full; those deadlines have already passed.
+                cursorDeadline = lastTick * tickMillis;
+                cursorId = Long.MAX_VALUE;
+            }
+        }
+        if (!due.isEmpty()) {
+            fire(new ArrayList<>(due), firstTick * tickMillis, currentTick * tickMillis);
+        }
+        load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.deadLine() == null || event.status() == StatusEnum.COMPLETED
+                || (event.type() != TaskChangedEvent.Type.CREATED && event.type() != TaskChangedEvent.Type.UPDATED)) {
+            return;
+        }
+        long deadline = event.deadLine().getTime();
+        synchronized (this) {
+            boolean loaded = deadline < cursorDeadline || (deadline == cursorDeadline && event.taskId() <= cursorId);
+            if (lastTick < 0 || !loaded || deadline <= lastTick * tickMillis || alreadyPending(event)) {
+                return;
+            }
+            if (pending >= maxPending) {
+                // No room left: move the loader back so it reads this task again once slots are drained.
+                cursorDeadline = deadline;
+                cursorId = event.taskId() - 1;
+            } else {
+                add(event.taskId(), deadline);
+            }
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return pending;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.deadlines.pending", this, DeadlineScheduler::pendingCount)
+                .description("Task deadlines waiting in the timing wheel")
+                .register(registry);
+        FunctionCounter.builder("tasks.deadlines.overdue", fired, LongAdder::sum)
+                .description("Overdue events published when a task deadline passed")
+                .register(registry);
+    }
+
+    private void safeTick() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("Deadline tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void fire(List<Long> ids, long from, long to) {
+        for (int start = 0; start < ids.size(); start += VERIFY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + VERIFY_CHUNK_SIZE));
+            for (Object[] row : taskRepository.findDueBetween(chunk, new Date(from), new Date(to), StatusEnum.COMPLETED)) {
+                fired.increment();
+                eventPublisher.publishEvent(TaskChangedEvent.overdue((Long) row[0], (Long) row[1], (StatusEnum) row[2], (Date) row[3]));
+            }
+        }
+    }
+
+    private void load() {
+        long afterDeadline;
+        long afterId;
+        long until;
+        int batch;
+        synchronized (this) {
+            batch = Math.min(loadBatchSize, maxPending - pending);
+            until = (lastTick + slotIds.length) * tickMillis;
+            if (batch <= 0 || cursorDeadline >= until) {
+                return;
+            }
+            afterDeadline = cursorDeadline;
+            afterId = cursorId;
+        }
+        List<Object[]> rows = taskRepository.findDeadlinesAfter(new Date(afterDeadline), afterId, new Date(until),
+                StatusEnum.COMPLETED, PageRequest.ofSize(batch));
+        synchronized (this) {
+            if (cursorDeadline != afterDeadline || cursorId != afterId) {
+                return;
+            }
+            for (Object[] row : rows) {
+                long deadline = ((Date) row[1]).getTime();
+                if (deadline > lastTick * tickMillis) {
+                    add((Long) row[0], deadline);
+                }
+            }
+            if (rows.size() < batch) {
+                cursorDeadline = until;
+                cursorId = Long.MAX_VALUE;
+            } else {
+                Object[] last = rows.get(rows.size() - 1);
+                cursorDeadline = ((Date) last[1]).getTime();
+                cursorId = (Long) last[0];
+            }
+        }
+    }
+
+    /**
+     * An open task whose deadline did not change is already in the wheel, from the loader or from an earlier event.
+     */
+    private static boolean alreadyPending(TaskChangedEvent event) {
+        return event.type() == TaskChangedEvent.Type.UPDATED
+                && event.previousStatus() != null && event.previousStatus() != StatusEnum.COMPLETED
+                && event.deadLine().equals(event.previousDeadLine());
+    }
+
+    private void add(long taskId, long deadline) {
+        int slot = slot(Math.floorDiv(deadline + tickMillis - 1, tickMillis));
+        long[] ids = slotIds[slot];
+        if (ids == null) {
+            ids = new long[4];
+        } else if (slotSizes[slot] == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[slotSizes[slot]++] = taskId;
+        slotIds[slot] = ids;
+        pending++;
+    }
+
+    private void drain(int slot, Set<Long> due) {
+        for (int i = 0; i < slotSizes[slot]; i++) {
+            due.add(slotIds[slot][i]);
+        }
+        pending -= slotSizes[slot];
+        slotIds[slot] = null;
+        slotSizes[slot] = 0;
+    }
+
+    private int slot(long tick) {
+        return (int) Math.floorMod(tick, (long) slotIds.length);
+    }
+}
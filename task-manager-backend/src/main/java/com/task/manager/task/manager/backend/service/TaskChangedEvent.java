@@ -0,0 +1,53 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+
+import java.util.Date;
+
+/**
+ * Published by {@link TaskService} after every task write, and by {@link DeadlineScheduler} when a task becomes overdue.
+ * A null previous status or deadline means it was not read.
+ */
+public record TaskChangedEvent(Type type, Long taskId, Long userId, StatusEnum previousStatus, StatusEnum status, Date deadLine,
+                               Date previousDeadLine) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        OVERDUE
+    }
+
+    public static TaskChangedEvent created(Long taskId, Long userId, StatusEnum status) {
+        return created(taskId, userId, status, null);
+    }
+
+    public static TaskChangedEvent created(Long taskId, Long userId, StatusEnum status, Date deadLine) {
+        return new TaskChangedEvent(Type.CREATED, taskId, userId, null, status, deadLine, null);
+    }
+
+    public static TaskChangedEvent updated(Long taskId, Long userId, StatusEnum previousStatus, StatusEnum status) {
+        return updated(taskId, userId, previousStatus, status, null);
+    }
+
+    public static TaskChangedEvent updated(Long taskId, Long userId, StatusEnum previousStatus, StatusEnum status, Date deadLine) {
+        return updated(taskId, userId, previousStatus, status, null, deadLine);
+    }
+
+    public static TaskChangedEvent updated(Long taskId, Long userId, StatusEnum previousStatus, StatusEnum status,
+                                           Date previousDeadLine, Date deadLine) {
+        return new TaskChangedEvent(Type.UPDATED, taskId, userId, previousStatus, status, deadLine, previousDeadLine);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, Long userId, StatusEnum previousStatus) {
+        return deleted(taskId, userId, previousStatus, null);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, Long userId, StatusEnum previousStatus, Date previousDeadLine) {
+        return new TaskChangedEvent(Type.DELETED, taskId, userId, previousStatus, null, null, previousDeadLine);
+    }
+
+    public static TaskChangedEvent overdue(Long taskId, Long userId, StatusEnum status, Date deadLine) {
+        return new TaskChangedEvent(Type.OVERDUE, taskId, userId, status, status, deadLine, deadLine);
+    }
+}
@@ -0,0 +1,271 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.cache.BoundedCache;
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Approximate number of active tasks per user and status, and of overdue and due-today tasks.
+ * Each is seeded with one grouped query, then adjusted from the previous and new state carried by
+ * {@link TaskChangedEvent}s until the entry expires and is seeded again.
+ * <p>
+ * Events are applied when the publishing transaction commits. A seed that runs while a write of the same user is in
+ * flight, or that races with its commit, is returned but not cached, so the write is never counted twice.
+ */
+@Service
+public class TaskCounters {
+
+    private static final int STRIPES = 256;
+
+    private final TaskRepository taskRepository;
+
+    private final BoundedCache<Long, AtomicLongArray> counts;
+
+    private final BoundedCache<Long, DeadlineEntry> deadlineCounts;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    private final long[] versions = new long[STRIPES];
+
+    private final int[] inFlight = new int[STRIPES];
+
+    public TaskCounters(TaskRepository taskRepository,
+                        @Value("${api.tasks.counters.max-users:10000}") int maxUsers,
+                        @Value("${api.tasks.counters.ttl-seconds:600}") long ttlSeconds,
+                        @Value("${api.tasks.counters.deadline-ttl-seconds:600}") long deadlineTtlSeconds) {
+        this.taskRepository = taskRepository;
+        this.counts = new BoundedCache<>(maxUsers, Duration.ofSeconds(ttlSeconds));
+        this.deadlineCounts = new BoundedCache<>(maxUsers, Duration.ofSeconds(deadlineTtlSeconds));
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public long approximateTotal(Long userId) {
+        AtomicLongArray userCounts = statusCounts(userId);
+        long total = 0;
+        for (int i = 0; i < userCounts.length(); i++) {
+            total += userCounts.get(i);
+        }
+        return total;
+    }
+
+    public long approximateTotal(Long userId, StatusEnum status) {
+        return statusCounts(userId).get(status.ordinal());
+    }
+
+    /**
+     * Tasks not completed whose deadline has passed, and those still due before the end of today.
+     */
+    public DeadlineCounts deadlineCounts(Long userId) {
+        DeadlineEntry entry = deadlineCounts.get(userId);
+        if (entry == null) {
+            Instant endOfDay = LocalDate.now().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            entry = seed(userId, deadlineCounts, () -> loadDeadlines(userId, endOfDay), endOfDay);
+        }
+        synchronized (lock(userId)) {
+            return new DeadlineCounts(entry.overdue, entry.dueToday);
+        }
+    }
+
+    /**
+     * Runs inside the publishing transaction, so a seed can tell a write is pending; the counts themselves only move
+     * once it has committed.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        int stripe = stripe(event.userId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (locks[stripe]) {
+                apply(event);
+                versions[stripe]++;
+            }
+            return;
+        }
+        synchronized (locks[stripe]) {
+            inFlight[stripe]++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (locks[stripe]) {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                    inFlight[stripe]--;
+                    versions[stripe]++;
+                }
+            }
+        });
+    }
+
+    private AtomicLongArray statusCounts(Long userId) {
+        AtomicLongArray userCounts = counts.get(userId);
+        return userCounts != null ? userCounts : seed(userId, counts, () -> loadCounts(userId), null);
+    }
+
+    /**
+     * Caches the loaded value only if no write of the stripe was in flight or completed while it was loading.
+     */
+    private <V> V seed(Long userId, BoundedCache<Long, V> cache, Supplier<V> loader, Instant expiresAt) {
+        int stripe = stripe(userId);
+        long version;
+        synchronized (locks[stripe]) {
+            version = inFlight[stripe] == 0 ? versions[stripe] : -1;
+        }
+        V loaded = loader.get();
+        if (version >= 0) {
+            synchronized (locks[stripe]) {
+                if (inFlight[stripe] == 0 && versions[stripe] == version) {
+                    if (expiresAt == null) {
+                        cache.put(userId, loaded);
+                    } else {
+                        cache.put(userId, loaded, expiresAt);
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Called with the stripe lock held.
+     */
+    private void apply(TaskChangedEvent event) {
+        Long userId = event.userId();
+        DeadlineEntry deadlines = deadlineCounts.get(userId);
+        if (deadlines != null) {
+            if (event.type() == TaskChangedEvent.Type.OVERDUE) {
+                deadlines.shiftOverdue(event.deadLine());
+            } else if (event.type() != TaskChangedEvent.Type.CREATED && event.previousStatus() == null) {
+                deadlineCounts.evict(userId);
+            } else {
+                long now = System.currentTimeMillis();
+                deadlines.remove(event.previousStatus(), event.previousDeadLine(), now);
+                deadlines.add(event.status(), event.deadLine(), now);
+            }
+        }
+
+        AtomicLongArray userCounts = counts.get(userId);
+        if (userCounts == null) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED -> userCounts.incrementAndGet(event.status().ordinal());
+            case UPDATED -> {
+                if (event.previousStatus() == null) {
+                    counts.evict(userId);
+                } else if (event.previousStatus() != event.status()) {
+                    userCounts.decrementAndGet(event.previousStatus().ordinal());
+                    userCounts.incrementAndGet(event.status().ordinal());
+                }
+            }
+            case DELETED -> {
+                if (event.previousStatus() == null) {
+                    counts.evict(userId);
+                } else {
+                    userCounts.decrementAndGet(event.previousStatus().ordinal());
+                }
+            }
+            case OVERDUE -> {
+            }
+        }
+    }
+
+    private AtomicLongArray loadCounts(Long userId) {
+        AtomicLongArray userCounts = new AtomicLongArray(StatusEnum.values().length);
+        for (Object[] row : taskRepository.countByStatus(userId)) {
+            userCounts.set(((StatusEnum) row[0]).ordinal(), ((Number) row[1]).longValue());
+        }
+        return userCounts;
+    }
+
+    private DeadlineEntry loadDeadlines(Long userId, Instant endOfDay) {
+        Instant now = Instant.now();
+        DeadlineEntry entry = new DeadlineEntry(now.toEpochMilli(), endOfDay.toEpochMilli());
+        for (Object[] row : taskRepository.countDeadlines(userId, Date.from(now), Date.from(endOfDay), StatusEnum.COMPLETED)) {
+            entry.overdue = toLong(row[0]);
+            entry.dueToday = toLong(row[1]);
+        }
+        return entry;
+    }
+
+    private Object lock(Long userId) {
+        return locks[stripe(userId)];
+    }
+
+    private static int stripe(Long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    public record DeadlineCounts(long overdue, long dueToday) {
+    }
+
+    /**
+     * Mutated only with the stripe lock of its user held. A task due after the seed was counted as due today until
+     * its {@link TaskChangedEvent.Type#OVERDUE} event arrives.
+     */
+    private static final class DeadlineEntry {
+
+        private final long loadedAt;
+
+        private final long endOfDay;
+
+        private long overdue;
+
+        private long dueToday;
+
+        private DeadlineEntry(long loadedAt, long endOfDay) {
+            this.loadedAt = loadedAt;
+            this.endOfDay = endOfDay;
+        }
+
+        private void add(StatusEnum status, Date deadLine, long now) {
+            if (counted(status, deadLine)) {
+                if (deadLine.getTime() < now) {
+                    overdue++;
+                } else {
+                    dueToday++;
+                }
+            }
+        }
+
+        private void remove(StatusEnum status, Date deadLine, long now) {
+            if (counted(status, deadLine)) {
+                if (deadLine.getTime() < now && overdue > 0) {
+                    overdue--;
+                } else if (dueToday > 0) {
+                    dueToday--;
+                }
+            }
+        }
+
+        private void shiftOverdue(Date deadLine) {
+            if (deadLine != null && deadLine.getTime() >= loadedAt && deadLine.getTime() < endOfDay && dueToday > 0) {
+                dueToday--;
+                overdue++;
+            }
+        }
+
+        private boolean counted(StatusEnum status, Date deadLine) {
+            return status != null && status != StatusEnum.COMPLETED && deadLine != null && deadLine.getTime() < endOfDay;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.task.manager.task.manager.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process fan-out of committed {@link TaskChangedEvent}s to the open task streams of each user.
+ * Publishing never blocks: events wait in a bounded buffer per subscriber and are coalesced per task while the
+ * subscriber is behind. When the buffer is full it is dropped and the subscriber is told to resync instead.
+ * A send that stays blocked longer than {@code send-timeout-ms} ends that subscription, and the delivery pool gets a
+ * spare thread until the send returns, so a few stalled clients cannot hold every delivery thread.
+ */
+@Service
+public class TaskEventBus implements MeterBinder {
+
+    /**
+     * Receives the events of one subscriber. Calls for the same sink never overlap.
+     */
+    public interface Sink {
+
+        /**
+         * @param resync whether events were dropped before {@code events}, so the subscriber should reload its tasks
+         */
+        void send(List<TaskChangedEvent> events, boolean resync) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * Ends the stream after a send stalled. Called from another thread while that send may still be blocked,
+         * so it must not wait for it.
+         */
+        default void close() {
+        }
+    }
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private final int bufferSize;
+
+    private final int maxSubscriptionsPerUser;
+
+    private final int deliveryThreads;
+
+    private final long sendTimeoutNanos;
+
+    private final int maxStalledSends;
+
+    private final ThreadPoolExecutor deliveryExecutor;
+
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder overflows = new LongAdder();
+
+    private final LongAdder stalls = new LongAdder();
+
+    private int spareThreads;
+
+    public TaskEventBus(@Value("${api.tasks.stream.buffer-size:256}") int bufferSize,
+                        @Value("${api.tasks.stream.max-per-user:5}") int maxSubscriptionsPerUser,
+                        @Value("${api.tasks.stream.delivery-threads:4}") int deliveryThreads,
+                        @Value("${api.tasks.stream.heartbeat-seconds:30}") long heartbeatSeconds,
+                        @Value("${api.tasks.stream.send-timeout-ms:10000}") long sendTimeoutMillis,
+                        @Value("${api.tasks.stream.max-stalled-sends:16}") int maxStalledSends) {
+        if (bufferSize <= 0 || sendTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Stream buffer size and send timeout must be greater than zero");
+        }
+        this.bufferSize = bufferSize;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        this.deliveryThreads = deliveryThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.maxStalledSends = maxStalledSends;
+        AtomicInteger threads = new AtomicInteger();
+        this.deliveryExecutor = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long checkMillis = Math.max(1, sendTimeoutMillis / 2);
+        heartbeatScheduler.scheduleWithFixedDelay(this::expireStalledSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @throws IllegalStateException when the user already has the maximum number of open streams
+     */
+    public Subscription subscribe(Long userId, Sink sink) {
+        Subscription subscription = new Subscription(userId, sink);
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            if (userSubscriptions == null) {
+                userSubscriptions = ConcurrentHashMap.newKeySet();
+            }
+            if (userSubscriptions.size() >= maxSubscriptionsPerUser) {
+                throw new IllegalStateException("Too many open task streams");
+            }
+            userSubscriptions.add(subscription);
+            return userSubscriptions;
+        });
+        return subscription;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Subscription> userSubscriptions = subscriptions.get(event.userId());
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.stream.subscribers", this, TaskEventBus::subscriberCount)
+                .description("Open task event streams")
+                .register(registry);
+        FunctionCounter.builder("tasks.stream.coalesced", coalesced, LongAdder::sum)
+                .description("Task events merged into a pending event of the same task")
+                .register(registry);
+        FunctionCounter.builder("tasks.stream.overflows", overflows, LongAdder::sum)
+                .description("Subscriber buffers dropped and replaced by a resync")
+                .register(registry);
+        FunctionCounter.builder("tasks.stream.stalled", stalls, LongAdder::sum)
+                .description("Streams closed because a send stayed blocked longer than the send timeout")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        deliveryExecutor.shutdownNow();
+    }
+
+    private void heartbeat() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.requestHeartbeat();
+            }
+        }
+    }
+
+    private void expireStalledSends() {
+        long now = System.nanoTime();
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.expireIfStalled(now);
+            }
+        }
+    }
+
+    /**
+     * Grows the delivery pool by one thread to stand in for a thread blocked in a stalled send.
+     */
+    private synchronized boolean addSpareThread() {
+        if (spareThreads >= maxStalledSends) {
+            return false;
+        }
+        spareThreads++;
+        deliveryExecutor.setMaximumPoolSize(deliveryThreads + spareThreads);
+        deliveryExecutor.setCorePoolSize(deliveryThreads + spareThreads);
+        return true;
+    }
+
+    private synchronized void releaseSpareThread() {
+        spareThreads--;
+        deliveryExecutor.setCorePoolSize(deliveryThreads + spareThreads);
+        deliveryExecutor.setMaximumPoolSize(deliveryThreads + spareThreads);
+    }
+
+    /**
+     * Merges two events of the same task that were not delivered yet. Returns null when they cancel out.
+     * An overdue event never replaces a pending change, which already makes the subscriber reload the task.
+     */
+    static TaskChangedEvent coalesce(TaskChangedEvent pending, TaskChangedEvent next) {
+        return switch (pending.type()) {
+            case CREATED -> switch (next.type()) {
+                case CREATED, UPDATED -> TaskChangedEvent.created(next.taskId(), next.userId(), next.status(), next.deadLine());
+                case DELETED -> null;
+                case OVERDUE -> pending;
+            };
+            case UPDATED -> switch (next.type()) {
+                case UPDATED -> TaskChangedEvent.updated(next.taskId(), next.userId(), pending.previousStatus(), next.status(),
+                        pending.previousDeadLine(), next.deadLine());
+                case DELETED -> TaskChangedEvent.deleted(next.taskId(), next.userId(), pending.previousStatus(), pending.previousDeadLine());
+                case CREATED -> next;
+                case OVERDUE -> pending;
+            };
+            case DELETED -> next.type() == TaskChangedEvent.Type.OVERDUE ? pending : next;
+            case OVERDUE -> next;
+        };
+    }
+
+    public final class Subscription {
+
+        private final Long userId;
+
+        private final Sink sink;
+
+        private final LinkedHashMap<Long, TaskChangedEvent> pending = new LinkedHashMap<>();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private boolean resync;
+
+        private boolean heartbeatDue;
+
+        private volatile boolean cancelled;
+
+        private boolean sending;
+
+        private long sendStartedNanos;
+
+        private boolean holdsSpareThread;
+
+        private Subscription(Long userId, Sink sink) {
+            this.userId = userId;
+            this.sink = sink;
+        }
+
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+                userSubscriptions.remove(this);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+            synchronized (this) {
+                pending.clear();
+            }
+        }
+
+        private void offer(TaskChangedEvent event) {
+            synchronized (this) {
+                TaskChangedEvent previous = pending.get(event.taskId());
+                if (previous != null) {
+                    coalesced.increment();
+                    TaskChangedEvent merged = coalesce(previous, event);
+                    if (merged == null) {
+                        pending.remove(event.taskId());
+                    } else {
+                        pending.put(event.taskId(), merged);
+                    }
+                } else {
+                    if (pending.size() >= bufferSize) {
+                        overflows.increment();
+                        pending.clear();
+                        resync = true;
+                    }
+                    pending.put(event.taskId(), event);
+                }
+            }
+            schedule();
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (cancelled || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void deliver() {
+            try {
+                while (!cancelled) {
+                    List<TaskChangedEvent> events;
+                    boolean resyncNow;
+                    boolean heartbeatNow;
+                    synchronized (this) {
+                        events = new ArrayList<>(pending.values());
+                        pending.clear();
+                        resyncNow = resync;
+                        resync = false;
+                        heartbeatNow = heartbeatDue;
+                        heartbeatDue = false;
+                    }
+                    if (events.isEmpty() && !resyncNow) {
+                        if (heartbeatNow) {
+                            beginSend();
+                            try {
+                                sink.heartbeat();
+                            } finally {
+                                endSend();
+                            }
+                        }
+                        break;
+                    }
+                    beginSend();
+                    try {
+                        sink.send(events, resyncNow);
+                    } finally {
+                        endSend();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                cancel();
+            } finally {
+                scheduled.set(false);
+            }
+            // Events offered after the last snapshot but before the flag was cleared would otherwise wait for the next one.
+            synchronized (this) {
+                if (pending.isEmpty() && !resync) {
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        private synchronized void beginSend() {
+            sending = true;
+            sendStartedNanos = System.nanoTime();
+        }
+
+        private synchronized void endSend() {
+            sending = false;
+            if (holdsSpareThread) {
+                holdsSpareThread = false;
+                releaseSpareThread();
+            }
+        }
+
+        private void expireIfStalled(long now) {
+            synchronized (this) {
+                if (cancelled || !sending || now - sendStartedNanos < sendTimeoutNanos) {
+                    return;
+                }
+                holdsSpareThread = addSpareThread();
+            }
+            stalls.increment();
+            cancel();
+            try {
+                sink.close();
+            } catch (RuntimeException e) {
+                // The stream is already gone.
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes all active tasks of a user as NDJSON or CSV while they are read, one row in memory at a time.
+ */
+@Service
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(Long userId, TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<TaskRecord> tasks = taskRepository.streamByUserId(userId)) {
+            if (format == TaskFileFormat.CSV) {
+                writeCsvRow(writer, (Object[]) TaskFileFormat.CSV_HEADER);
+            }
+            Iterator<TaskRecord> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskRecord task = iterator.next();
+                if (format == TaskFileFormat.CSV) {
+                    writeCsvRow(writer, task.id(), task.title(), task.description(), task.status(), task.createDate(),
+                            task.deadLine(), task.assignedToId(), task.assignedToUsername(), task.version());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(task));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Date date ? date.toInstant().toString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,43 @@
+package com.task.manager.task.manager.backend.service;
+
+import java.util.Locale;
+
+/**
+ * File formats of task exports and imports.
+ */
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    /**
+     * CSV columns of a task export; imports read the columns of {@code NewTaskRecord} by name and ignore the rest.
+     */
+    static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "createDate", "deadLine", "assignedToId", "assignedToUsername", "version"
+    };
+
+    private final String contentType;
+
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static TaskFileFormat parse(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported file format");
+        }
+    }
+}
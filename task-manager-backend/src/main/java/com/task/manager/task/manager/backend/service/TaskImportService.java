@@ -0,0 +1,256 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.task.manager.backend.model.BulkItemResultRecord;
+import com.task.manager.task.manager.backend.model.ImportErrorRecord;
+import com.task.manager.task.manager.backend.model.ImportReportRecord;
+import com.task.manager.task.manager.backend.model.NewTaskRecord;
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Creates tasks for the authenticated user from an NDJSON or CSV upload. The body is parsed as it arrives and
+ * saved in chunks through {@link TaskService#createAll}, one transaction per chunk. The request's persistence
+ * context outlives those transactions while open-in-view is on, so it is cleared after every chunk and heap use
+ * does not grow with the size of the file. Lines that fail, including lines longer than {@code max-line-length},
+ * are reported and the rest of the file is still imported.
+ */
+@Service
+public class TaskImportService {
+
+    private static final String[] REQUIRED_CSV_COLUMNS = {"title", "description", "status", "deadLine"};
+
+    private final TaskService taskService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final int chunkSize;
+
+    private final int maxErrors;
+
+    private final int maxLineLength;
+
+    public TaskImportService(TaskService taskService, ObjectMapper objectMapper, Validator validator,
+                             EntityManager entityManager,
+                             @Value("${api.tasks.import.chunk-size:1000}") int chunkSize,
+                             @Value("${api.tasks.import.max-errors:1000}") int maxErrors,
+                             @Value("${api.tasks.import.max-line-length:65536}") int maxLineLength) {
+        if (chunkSize <= 0 || maxLineLength <= 0) {
+            throw new IllegalArgumentException("Import chunk size and line length must be greater than zero");
+        }
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public ImportReportRecord importTasks(Long userId, TaskFileFormat format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Batch batch = new Batch(userId);
+        if (format == TaskFileFormat.CSV) {
+            readCsv(reader, batch);
+        } else {
+            readNdjson(reader, batch);
+        }
+        batch.flush();
+        batch.errors.sort(Comparator.comparingLong(ImportErrorRecord::line));
+        return new ImportReportRecord(batch.imported, batch.failed, batch.errors, batch.failed > batch.errors.size());
+    }
+
+    private void readNdjson(BufferedReader reader, Batch batch) throws IOException {
+        BoundedLineReader lines = new BoundedLineReader(reader, maxLineLength);
+        while (true) {
+            String text;
+            try {
+                text = lines.next();
+            } catch (IllegalArgumentException e) {
+                batch.reject(lines.line(), e.getMessage());
+                continue;
+            }
+            if (text == null) {
+                return;
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(lines.line(), objectMapper.readValue(text, NewTaskRecord.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(lines.line(), "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Batch batch) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, maxLineLength);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must include title, description, status and deadLine");
+            }
+        }
+
+        List<String> fields;
+        while (true) {
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                batch.reject(csv.recordLine(), e.getMessage());
+                continue;
+            }
+            if (fields == null) {
+                return;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(csv.recordLine(), new NewTaskRecord(
+                        field(fields, columns, "title"),
+                        field(fields, columns, "description"),
+                        parseStatus(field(fields, columns, "status")),
+                        parseDeadLine(field(fields, columns, "deadLine")),
+                        null));
+            } catch (IllegalArgumentException e) {
+                batch.reject(csv.recordLine(), e.getMessage());
+            }
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < fields.size() && !fields.get(index).isEmpty() ? fields.get(index) : null;
+    }
+
+    private static StatusEnum parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return StatusEnum.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static Date parseDeadLine(String deadLine) {
+        if (deadLine == null) {
+            return null;
+        }
+        try {
+            return Date.from(Instant.parse(deadLine.trim()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid deadline, expected an ISO-8601 instant such as 2025-03-01T10:00:00Z");
+        }
+    }
+
+    /**
+     * Lines waiting to be saved, and the report so far.
+     */
+    private final class Batch {
+
+        private final Long userId;
+
+        private final List<NewTaskRecord> records = new ArrayList<>();
+
+        private final List<Long> lines = new ArrayList<>();
+
+        private final List<ImportErrorRecord> errors = new ArrayList<>();
+
+        private long imported;
+
+        private long failed;
+
+        private Batch(Long userId) {
+            this.userId = userId;
+        }
+
+        private void add(long line, NewTaskRecord parsed) {
+            if (parsed == null) {
+                reject(line, "TaskObject cannot be null");
+                return;
+            }
+            NewTaskRecord taskRecord = new NewTaskRecord(parsed.title(), parsed.description(), parsed.status(),
+                    parsed.deadLine(), userId);
+            String violations = validator.validate(taskRecord).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            if (!violations.isEmpty()) {
+                reject(line, violations);
+                return;
+            }
+            records.add(taskRecord);
+            lines.add(line);
+            if (records.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void reject(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorRecord(line, message));
+            }
+        }
+
+        private void flush() {
+            if (records.isEmpty()) {
+                return;
+            }
+            try {
+                for (BulkItemResultRecord result : taskService.createAll(records)) {
+                    if (result.success()) {
+                        imported++;
+                    } else {
+                        reject(lines.get(result.index()), result.message());
+                    }
+                }
+            } catch (DataAccessException e) {
+                for (Long line : lines) {
+                    reject(line, "Task could not be saved");
+                }
+            } finally {
+                entityManager.clear();
+            }
+            records.clear();
+            lines.clear();
+        }
+    }
+}
@@ -1,45 +1,157 @@
 package com.task.manager.task.manager.backend.service;
 
+import com.task.manager.task.manager.backend.model.BulkItemResultRecord;
+import com.task.manager.task.manager.backend.model.CursorPageRecord;
 import com.task.manager.task.manager.backend.model.NewTaskRecord;
 import com.task.manager.task.manager.backend.model.StatusEnum;
 import com.task.manager.task.manager.backend.model.Task;
+import com.task.manager.task.manager.backend.model.TaskCursor;
+import com.task.manager.task.manager.backend.model.TaskPatchRecord;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import com.task.manager.task.manager.backend.model.TaskSummaryRecord;
 import com.task.manager.task.manager.backend.model.User;
 import com.task.manager.task.manager.backend.repository.TaskRepository;
 import com.task.manager.task.manager.backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "tasks.service", description = "Time spent in TaskService, tagged by method and exception")
 public class TaskService {
 
     private final TaskRepository taskRepository;
 
     private final UserRepository userRepository;
 
+    private final TaskCounters taskCounters;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Validator validator;
+
     private static final String TASK_NOT_FOUND = "Task not found";
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    private static final int MAX_SEARCH_TERMS = 8;
+
+    /**
+     * Default {@code innodb_ft_min_token_size}; shorter words are not in the full-text index.
+     */
+    private static final int MIN_SEARCH_TERM_LENGTH = 3;
+
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository, TaskCounters taskCounters,
+                       ApplicationEventPublisher eventPublisher, Validator validator) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.taskCounters = taskCounters;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
     }
 
-    public Page<Task> listTasksByUserId(Long userId,Pageable pageable){
+    public Page<TaskRecord> listTasksByUserId(Long userId,Pageable pageable){
         return taskRepository.findByUserId(userId,pageable);
     }
 
+    public Slice<TaskRecord> sliceTasksByUserId(Long userId,Pageable pageable){
+        return taskRepository.findSliceByUserId(userId,pageable);
+    }
+
     public Task findTaskById (Long taskId){
         return taskRepository.findById(taskId).orElseThrow(()-> new NoSuchElementException(TASK_NOT_FOUND));
     }
 
-    public Page<Task> listTasksByStatus(Long userId,StatusEnum statusEnum, Pageable pageable){
+    public Page<TaskRecord> listTasksByStatus(Long userId,StatusEnum statusEnum, Pageable pageable){
         return taskRepository.findByStatus(userId,statusEnum,pageable);
     }
 
+    public Slice<TaskRecord> sliceTasksByStatus(Long userId,StatusEnum statusEnum, Pageable pageable){
+        return taskRepository.findSliceByStatus(userId,statusEnum,pageable);
+    }
+
+    public long approximateTaskCount(Long userId, StatusEnum statusEnum){
+        return statusEnum == null
+                ? taskCounters.approximateTotal(userId)
+                : taskCounters.approximateTotal(userId, statusEnum);
+    }
+
+    /**
+     * Dashboard counts served from {@link TaskCounters}, without a count query per status.
+     */
+    public TaskSummaryRecord summary(Long userId){
+        Map<StatusEnum, Long> byStatus = new EnumMap<>(StatusEnum.class);
+        long total = 0;
+        for (StatusEnum status : StatusEnum.values()) {
+            long count = taskCounters.approximateTotal(userId, status);
+            byStatus.put(status, count);
+            total += count;
+        }
+        TaskCounters.DeadlineCounts deadlines = taskCounters.deadlineCounts(userId);
+        return new TaskSummaryRecord(byStatus, total, deadlines.overdue(), deadlines.dueToday());
+    }
+
+    /**
+     * Changes whenever a task of the user is written, so it can stand in for the user's task listings in ETags.
+     * A primary key read of a counter bumped with each write, so every instance behind the load balancer sees the same value.
+     */
+    public long tasksWatermark(Long userId){
+        Long modified = userRepository.findTasksModified(userId);
+        return modified == null ? 0 : modified;
+    }
+
+    public CursorPageRecord<TaskRecord> listTasksByUserIdAfter(Long userId, String cursor, int size){
+        TaskCursor after = TaskCursor.decode(cursor);
+        return toCursorPage(taskRepository.findByUserIdAfter(userId, after.deadLine(), after.id(), PageRequest.ofSize(size)));
+    }
+
+    public CursorPageRecord<TaskRecord> listTasksByStatusAfter(Long userId, StatusEnum statusEnum, String cursor, int size){
+        TaskCursor after = TaskCursor.decode(cursor);
+        return toCursorPage(taskRepository.findByStatusAfter(userId, statusEnum, after.deadLine(), after.id(), PageRequest.ofSize(size)));
+    }
+
+    /**
+     * Tasks of the user whose title or description contain every word of the query, as a word or a word prefix,
+     * best matches first.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TaskRecord> searchTasks(Long userId, String query, int page, int size){
+        Slice<Long> ids = taskRepository.searchIds(userId, toFullTextQuery(query), PageRequest.of(page, size));
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), ids.getPageable(), false);
+        }
+        Map<Long, TaskRecord> tasks = taskRepository.findRecordsByIds(userId, ids.getContent()).stream()
+                .collect(Collectors.toMap(TaskRecord::id, Function.identity()));
+        List<TaskRecord> ranked = ids.getContent().stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(ranked, ids.getPageable(), ids.hasNext());
+    }
+
+    @Transactional
     public Task create (@Valid NewTaskRecord taskRecord){
         if (taskRecord == null){
             throw new IllegalArgumentException("TaskObject cannot be null");
@@ -48,7 +160,7 @@ public class TaskService {
         User user = userRepository.findById(taskRecord.assignedTo()).orElseThrow(()-> new NoSuchElementException("User not found"));
 
         Task task = new Task();
-        task.setTitle(validateTitle(taskRecord.title()));
+        task.setTitle(validateTitle(user.getId(), taskRecord.title()));
         task.setDeadLine(validateDeadLine(taskRecord.deadLine()));
         task.setDescription(taskRecord.description());
         task.setCreateDate(new Date());
@@ -56,14 +168,70 @@ public class TaskService {
         task.setStatus(taskRecord.status());
         task.setAssignedTo(user);
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        userRepository.touchTasks(Set.of(user.getId()));
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved.getId(), user.getId(), saved.getStatus(), saved.getDeadLine()));
+        return saved;
     }
 
+    /**
+     * Creates every valid item in one transaction and reports the outcome of each one. Items are checked against
+     * the constraints of {@link NewTaskRecord} first, so an invalid item fails on its own instead of failing the batch.
+     * Assignees and existing titles are loaded with one query each; the inserts are sent as JDBC batches.
+     */
+    @Transactional
+    public List<BulkItemResultRecord> createAll(List<NewTaskRecord> taskRecords){
+        Set<Long> userIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        for (NewTaskRecord taskRecord : taskRecords) {
+            if (taskRecord != null && taskRecord.assignedTo() != null && taskRecord.title() != null) {
+                userIds.add(taskRecord.assignedTo());
+                titles.add(taskRecord.title());
+            }
+        }
+
+        Map<Long, User> users = userIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(userIds).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<TitleKey> takenTitles = new HashSet<>();
+        if (!users.isEmpty()) {
+            for (Object[] row : taskRepository.findActiveTitles(users.keySet(), titles)) {
+                takenTitles.add(new TitleKey((Long) row[0], (String) row[1]));
+            }
+        }
+
+        BulkItemResultRecord[] results = new BulkItemResultRecord[taskRecords.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        Date now = new Date();
+        for (int i = 0; i < taskRecords.size(); i++) {
+            try {
+                tasks.add(newTask(taskRecords.get(i), users, takenTitles, now));
+                indexes.add(i);
+            } catch (IllegalArgumentException | NoSuchElementException e) {
+                results[i] = BulkItemResultRecord.failure(i, null, e.getMessage());
+            }
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        if (!saved.isEmpty()) {
+            userRepository.touchTasks(saved.stream().map(task -> task.getAssignedTo().getId()).collect(Collectors.toSet()));
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            Task task = saved.get(i);
+            results[indexes.get(i)] = BulkItemResultRecord.success(indexes.get(i), task.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.created(task.getId(), task.getAssignedTo().getId(), task.getStatus(), task.getDeadLine()));
+        }
+        return Arrays.asList(results);
+    }
+
+    @Transactional
     public void updateTask (Long id, NewTaskRecord taskRecord){
         Task task = findTaskById(id);
-        if (!task.getTitle().equals(taskRecord.title())
-        && !task.getAssignedTo().getId().equals(taskRecord.assignedTo())){
-            validateTitle(taskRecord.title());
+        StatusEnum previousStatus = task.getStatus();
+        Date previousDeadLine = task.getDeadLine();
+        if (!task.getTitle().equals(taskRecord.title())){
+            validateTitle(task.getAssignedTo().getId(), taskRecord.title());
         }
 
         task.setTitle(taskRecord.title());
@@ -73,21 +241,148 @@ public class TaskService {
         task.setStatus(taskRecord.status());
 
         taskRepository.save(task);
+        userRepository.touchTasks(Set.of(task.getAssignedTo().getId()));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(task.getId(), task.getAssignedTo().getId(), previousStatus, task.getStatus(),
+                previousDeadLine, task.getDeadLine()));
     }
 
-    public void deleteTask (Long id){
+    /**
+     * Applies only the non-null fields of {@code patch}. Unchanged fields are not validated and, with dynamic updates,
+     * not written; concurrent edits are detected through the task version instead of locking the row.
+     */
+    @Transactional
+    public Task patchTask (Long userId, Long id, TaskPatchRecord patch){
+        if (patch == null){
+            throw new IllegalArgumentException("TaskObject cannot be null");
+        }
+
         Task task = findTaskById(id);
-        task.setDeleted(true);
-        taskRepository.save(task);
+        if (task.isDeleted() || !task.getAssignedTo().getId().equals(userId)) {
+            throw new NoSuchElementException(TASK_NOT_FOUND);
+        }
+        if (patch.version() != null && !patch.version().equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+
+        StatusEnum previousStatus = task.getStatus();
+        Date previousDeadLine = task.getDeadLine();
+        boolean changed = false;
+        if (patch.title() != null && !patch.title().equals(task.getTitle())) {
+            task.setTitle(validateTitle(userId, patch.title()));
+            changed = true;
+        }
+        if (patch.description() != null && !patch.description().equals(task.getDescription())) {
+            task.setDescription(patch.description());
+            changed = true;
+        }
+        if (patch.deadLine() != null && !patch.deadLine().equals(task.getDeadLine())) {
+            task.setDeadLine(validateDeadLine(patch.deadLine()));
+            changed = true;
+        }
+        if (patch.status() != null && patch.status() != previousStatus) {
+            task.setStatus(patch.status());
+            changed = true;
+        }
+        if (!changed) {
+            return task;
+        }
+
+        Task saved = taskRepository.saveAndFlush(task);
+        userRepository.touchTasks(Set.of(userId));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(saved.getId(), userId, previousStatus, saved.getStatus(),
+                previousDeadLine, saved.getDeadLine()));
+        return saved;
+    }
+
+    /**
+     * Soft deletes the task without loading the entity: the row is locked and its status and deadline read first,
+     * so the event carries the state the counters have to take back.
+     */
+    @Transactional
+    public void deleteTask (Long userId, Long id){
+        TaskState previous = findActiveStatuses(userId, List.of(id)).get(id);
+        if (previous == null || taskRepository.softDeleteById(id, userId) == 0) {
+            throw new NoSuchElementException(TASK_NOT_FOUND);
+        }
+        userRepository.touchTasks(Set.of(userId));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id, userId, previous.status(), previous.deadLine()));
     }
 
-    public String validateTitle(String title) {
+    @Transactional
+    public void updateStatus (Long userId, Long id, StatusEnum status){
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        TaskState previous = findActiveStatuses(userId, List.of(id)).get(id);
+        if (previous == null || taskRepository.updateStatus(id, userId, status) == 0) {
+            throw new NoSuchElementException(TASK_NOT_FOUND);
+        }
+        userRepository.touchTasks(Set.of(userId));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(id, userId, previous.status(), status, previous.deadLine(), previous.deadLine()));
+    }
+
+    /**
+     * Soft deletes the given tasks of the user with one select and one update statement.
+     */
+    @Transactional
+    public List<BulkItemResultRecord> deleteAll(Long userId, List<Long> ids){
+        Map<Long, TaskState> statuses = findActiveStatuses(userId, ids);
+        if (!statuses.isEmpty()) {
+            taskRepository.softDeleteAll(userId, Set.copyOf(statuses.keySet()));
+            userRepository.touchTasks(Set.of(userId));
+        }
+
+        List<BulkItemResultRecord> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            TaskState previous = statuses.remove(id);
+            if (previous == null) {
+                results.add(BulkItemResultRecord.failure(i, id, TASK_NOT_FOUND));
+                continue;
+            }
+            results.add(BulkItemResultRecord.success(i, id));
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(id, userId, previous.status(), previous.deadLine()));
+        }
+        return results;
+    }
+
+    /**
+     * Moves the given tasks of the user to {@code status} with one select and one update statement.
+     */
+    @Transactional
+    public List<BulkItemResultRecord> updateStatusAll(Long userId, List<Long> ids, StatusEnum status){
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        Map<Long, TaskState> statuses = findActiveStatuses(userId, ids);
+        if (!statuses.isEmpty()) {
+            taskRepository.updateStatusAll(userId, Set.copyOf(statuses.keySet()), status);
+            userRepository.touchTasks(Set.of(userId));
+        }
+
+        List<BulkItemResultRecord> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            TaskState previous = statuses.remove(id);
+            if (previous == null) {
+                results.add(BulkItemResultRecord.failure(i, id, TASK_NOT_FOUND));
+                continue;
+            }
+            results.add(BulkItemResultRecord.success(i, id));
+            eventPublisher.publishEvent(TaskChangedEvent.updated(id, userId, previous.status(), status, previous.deadLine(), previous.deadLine()));
+        }
+        return results;
+    }
+
+    public String validateTitle(Long userId, String title) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Task title cannot be empty");
         }
 
-         taskRepository.findByTitle(title)
-                .ifPresent(task -> { throw new IllegalArgumentException("Task title already exists"); });
+        if (taskRepository.existsActiveTitle(userId, title)) {
+            throw new IllegalArgumentException("Task title already exists");
+        }
 
         return title;
     }
@@ -98,4 +393,84 @@ public class TaskService {
         }
         return date;
     }
+
+    /**
+     * Turns free text into a boolean-mode query requiring every word, so operators typed by the client are never
+     * passed to MySQL.
+     */
+    static String toFullTextQuery(String query){
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        String terms = Arrays.stream(query.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query needs a word of at least " + MIN_SEARCH_TERM_LENGTH + " characters");
+        }
+        return terms;
+    }
+
+    private Task newTask(NewTaskRecord taskRecord, Map<Long, User> users, Set<TitleKey> takenTitles, Date now){
+        if (taskRecord == null){
+            throw new IllegalArgumentException("TaskObject cannot be null");
+        }
+        if (taskRecord.title() == null || taskRecord.title().trim().isEmpty()) {
+            throw new IllegalArgumentException("Task title cannot be empty");
+        }
+        if (taskRecord.deadLine() == null) {
+            throw new IllegalArgumentException("Deadline cannot be null");
+        }
+        String violations = validator.validate(taskRecord).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+        User user = users.get(taskRecord.assignedTo());
+        if (user == null) {
+            throw new NoSuchElementException("User not found");
+        }
+        validateDeadLine(taskRecord.deadLine());
+        // Checked last so a rejected item does not reserve its title for the rest of the batch.
+        if (!takenTitles.add(new TitleKey(user.getId(), taskRecord.title()))) {
+            throw new IllegalArgumentException("Task title already exists");
+        }
+
+        Task task = new Task();
+        task.setTitle(taskRecord.title());
+        task.setDeadLine(taskRecord.deadLine());
+        task.setDescription(taskRecord.description());
+        task.setCreateDate(now);
+        task.setStatus(taskRecord.status());
+        task.setAssignedTo(user);
+        return task;
+    }
+
+    private Map<Long, TaskState> findActiveStatuses(Long userId, List<Long> ids){
+        Map<Long, TaskState> statuses = new HashMap<>();
+        if (ids.isEmpty()) {
+            return statuses;
+        }
+        for (Object[] row : taskRepository.findActiveStatuses(userId, new HashSet<>(ids))) {
+            statuses.put((Long) row[0], new TaskState((StatusEnum) row[1], (Date) row[2]));
+        }
+        return statuses;
+    }
+
+    private CursorPageRecord<TaskRecord> toCursorPage(Slice<TaskRecord> slice){
+        String nextCursor = slice.hasNext() && slice.hasContent()
+                ? TaskCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1)).encode()
+                : null;
+        return new CursorPageRecord<>(slice.getContent(), nextCursor, slice.hasNext());
+    }
+
+    private record TitleKey(Long userId, String title) {
+    }
+
+    private record TaskState(StatusEnum status, Date deadLine) {
+    }
 }
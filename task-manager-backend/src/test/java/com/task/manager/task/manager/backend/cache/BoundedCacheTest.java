@@ -0,0 +1,103 @@
+package com.task.manager.task.manager.backend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Description;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Should load a value once and serve it from the cache afterwards")
+    @Description("Ensures that the loader only runs on a miss and that hits and misses are counted.")
+    void shouldLoadOnceAndCountHits() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", key -> "value" + loads.incrementAndGet());
+        String result = cache.get("key", key -> "value" + loads.incrementAndGet());
+
+        assertEquals("value1", result);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache null values")
+    @Description("Ensures that a loader returning null is retried on the next lookup.")
+    void shouldNotCacheNullValues() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+
+        assertNull(cache.get("key", key -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    @Description("Ensures that the cache never grows beyond its maximum size.")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, Duration.ofMinutes(1));
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Should expire entries after their time to live")
+    @Description("Ensures that expired entries are treated as misses and removed.")
+    void shouldExpireEntries() {
+        MutableClock clock = new MutableClock();
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofSeconds(30), clock);
+
+        cache.put("a", "1");
+        cache.put("b", "2", clock.instant().plusSeconds(5));
+        clock.advance(Duration.ofSeconds(10));
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
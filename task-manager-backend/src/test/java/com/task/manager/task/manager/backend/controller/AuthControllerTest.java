@@ -0,0 +1,65 @@
+package com.task.manager.task.manager.backend.controller;
+
+import com.task.manager.task.manager.backend.model.LoginRecord;
+import com.task.manager.task.manager.backend.security.PasswordHashingUnavailableException;
+import com.task.manager.task.manager.backend.security.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthControllerTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        authController = new AuthController(authenticationManager, refreshTokenService);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when hashing is saturated for an unknown user")
+    @Description("Ensures that the saturation error is found behind the InternalAuthenticationServiceException that wraps it on the unknown-user path.")
+    void shouldReturnServiceUnavailableForUnknownUser() {
+        PasswordHashingUnavailableException saturated = new PasswordHashingUnavailableException();
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new InternalAuthenticationServiceException(saturated.getMessage(), saturated));
+
+        ResponseEntity<?> response = authController.login(new LoginRecord("unknown", "secret"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for bad credentials")
+    @Description("Ensures that other authentication failures are still reported as a bad request.")
+    void shouldReturnBadRequestForBadCredentials() {
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        ResponseEntity<?> response = authController.login(new LoginRecord("user", "wrong"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(refreshTokenService);
+    }
+}
@@ -0,0 +1,70 @@
+package com.task.manager.task.manager.backend.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Description;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryInspectorTest {
+
+    private static final String SELECT_USER = "select u.id, u.username from users u where u.id = ?";
+
+    private static final String SELECT_TASKS = "select t.id, t.title from task t where t.user_id = ?";
+
+    private QueryInspector queryInspector;
+
+    @BeforeEach
+    void setUp() {
+        queryInspector = new QueryInspector(1_000, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should count statements inside nested scopes")
+    @Description("Ensures that a statement counts towards every open scope and none after the scope is closed.")
+    void shouldCountStatementsInNestedScopes() {
+        try (QueryInspector.Scope outer = queryInspector.begin()) {
+            execute(SELECT_TASKS);
+            try (QueryInspector.Scope inner = queryInspector.begin()) {
+                execute(SELECT_USER);
+                assertEquals(1, inner.statementCount());
+            }
+            assertEquals(2, outer.statementCount());
+            outer.assertAtMost(2);
+            assertThrows(AssertionError.class, () -> outer.assertAtMost(1));
+        }
+
+        try (QueryInspector.Scope scope = queryInspector.begin()) {
+            assertEquals(0, scope.statementCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should detect the same statement running once per row")
+    @Description("Ensures that repeated statements, the usual N+1 pattern, fail the repeat assertion.")
+    void shouldDetectRepeatedStatements() {
+        try (QueryInspector.Scope scope = queryInspector.begin()) {
+            execute(SELECT_TASKS);
+            for (int i = 0; i < 4; i++) {
+                execute(SELECT_USER);
+            }
+
+            assertEquals(4, scope.maxRepeats());
+            assertEquals(SELECT_USER, scope.mostRepeatedStatement());
+            AssertionError error = assertThrows(AssertionError.class, () -> scope.assertNoRepeatsOver(1));
+            assertTrue(error.getMessage().contains(SELECT_USER));
+        }
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(1);
+        queryInspector.afterQuery(executionInfo, List.of(new QueryInfo(sql)));
+    }
+}
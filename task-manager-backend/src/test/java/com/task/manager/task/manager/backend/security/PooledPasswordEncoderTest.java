@@ -0,0 +1,74 @@
+package com.task.manager.task.manager.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Description;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    };
+
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify on the pool")
+    @Description("Ensures that results of the delegate encoder are returned to the caller.")
+    void shouldDelegateToPool() {
+        encoder = new PooledPasswordEncoder(slowEncoder, 1, 1, Duration.ofSeconds(5));
+        release.countDown();
+
+        assertEquals("hash:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hash:secret"));
+        assertFalse(encoder.matches("other", "hash:secret"));
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the pool is saturated")
+    @Description("Ensures that a call arriving while every hashing thread is busy and the queue is full is refused at once.")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        encoder = new PooledPasswordEncoder(slowEncoder, 1, 0, Duration.ofSeconds(5));
+
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("second", "hash:second"));
+
+        release.countDown();
+        assertEquals("hash:first", busy.join());
+    }
+}
@@ -0,0 +1,50 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        principalCache = new PrincipalCache(userRepository, 10, 300);
+    }
+
+    @Test
+    @DisplayName("Should cache an immutable snapshot of the user")
+    @Description("Ensures that the cached principal copies id, username, password hash and authorities, so later changes to the entity do not leak into it until it is evicted.")
+    void shouldCacheUserSnapshot() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("teste1");
+        user.setPassword("hash-1");
+        when(userRepository.findByUsername("teste1")).thenReturn(user);
+
+        AuthenticatedUser principal = principalCache.findByUsername("teste1");
+        user.setPassword("hash-2");
+
+        assertEquals(new AuthenticatedUser(1L, "teste1", "hash-1", principal.authorities()), principal);
+        assertEquals("ROLE_USER", principal.getAuthorities().get(0).getAuthority());
+        assertSame(principal, principalCache.findByUsername("teste1"));
+
+        principalCache.evict("teste1");
+
+        assertEquals("hash-2", principalCache.findByUsername("teste1").getPassword());
+        verify(userRepository, times(2)).findByUsername("teste1");
+    }
+}
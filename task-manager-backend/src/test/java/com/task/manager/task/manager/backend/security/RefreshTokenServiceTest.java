@@ -0,0 +1,96 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.task.manager.task.manager.backend.model.RefreshToken;
+import com.task.manager.task.manager.backend.model.TokenRecord;
+import com.task.manager.task.manager.backend.model.User;
+import com.task.manager.task.manager.backend.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenService tokenService;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenService, 30);
+        when(tokenService.generateToken(any(User.class))).thenReturn("access-token");
+        when(tokenService.getAccessTokenTtl()).thenReturn(Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("Should rotate the refresh token")
+    @Description("Ensures that a refresh revokes the used token and issues a new one in the same family, storing only its hash.")
+    void shouldRotateRefreshToken() {
+        RefreshToken stored = mockRefreshToken(false);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw-token"))).thenReturn(stored);
+        when(refreshTokenRepository.revokeById(stored.getId())).thenReturn(1);
+
+        TokenRecord tokens = refreshTokenService.refresh("raw-token");
+
+        assertEquals("access-token", tokens.accessToken());
+        assertEquals(900, tokens.expiresIn());
+        assertNotEquals("raw-token", tokens.refreshToken());
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("family-1", saved.getValue().getFamily());
+        assertEquals(RefreshTokenService.hash(tokens.refreshToken()), saved.getValue().getTokenHash());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("Should revoke the family when a used token is presented again")
+    @Description("Ensures that replaying a rotated refresh token is rejected and cuts off every token of the same login.")
+    void shouldRevokeFamilyOnReuse() {
+        RefreshToken stored = mockRefreshToken(true);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw-token"))).thenReturn(stored);
+
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.refresh("raw-token"));
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown refresh token")
+    @Description("Ensures that a token that was never issued does not produce new tokens.")
+    void shouldRejectUnknownToken() {
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.refresh("unknown"));
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    protected RefreshToken mockRefreshToken(boolean revoked){
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("teste1");
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setId(10L);
+        refreshToken.setFamily("family-1");
+        refreshToken.setUser(user);
+        refreshToken.setRevoked(revoked);
+        refreshToken.setCreateDate(new Date());
+        refreshToken.setExpiresAt(new Date(System.currentTimeMillis() + 60_000));
+
+        return refreshToken;
+    }
+}
@@ -0,0 +1,110 @@
+package com.task.manager.task.manager.backend.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.task.manager.task.manager.backend.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Description;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret", "k1", Map.of(), 100, 15);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the principal from token claims")
+    @Description("Ensures that id, username and authorities survive a sign and verify round trip.")
+    void shouldRebuildPrincipalFromClaims() {
+        String token = tokenService.generateToken(mockUser());
+
+        AuthenticatedUser principal = tokenService.getPrincipal(token);
+
+        assertNotNull(principal);
+        assertEquals(1L, principal.id());
+        assertEquals("teste1", principal.getUsername());
+        assertEquals("ROLE_USER", principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should return the subject of a valid token")
+    @Description("Ensures that the username is used as the token subject.")
+    void shouldReturnSubject() {
+        String token = tokenService.generateToken(mockUser());
+
+        assertEquals("teste1", tokenService.getSubject(token));
+    }
+
+    @Test
+    @DisplayName("Should keep accepting tokens signed with a rotated key")
+    @Description("Ensures that a key moved to the verification keys still verifies the tokens it signed while the new key signs.")
+    void shouldVerifyTokensSignedWithPreviousKey() {
+        String oldToken = tokenService.generateToken(mockUser());
+
+        TokenService rotated = new TokenService("another-secret", "k2", Map.of("k1", "test-secret"), 100, 15);
+        String newToken = rotated.generateToken(mockUser());
+
+        assertEquals("teste1", rotated.getSubject(oldToken));
+        assertEquals("teste1", rotated.getSubject(newToken));
+        assertThrows(JWTVerificationException.class, () -> tokenService.getSubject(newToken));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with a retired key")
+    @Description("Ensures that once a key is removed from the configuration, tokens it signed are no longer accepted.")
+    void shouldRejectTokensSignedWithRetiredKey() {
+        String oldToken = tokenService.generateToken(mockUser());
+
+        TokenService retired = new TokenService("another-secret", "k2", Map.of(), 100, 15);
+
+        assertThrows(JWTVerificationException.class, () -> retired.getSubject(oldToken));
+    }
+
+    @Test
+    @DisplayName("Should pick up verification keys from the keys file without a restart")
+    @Description("Ensures that a key added to the keys file is accepted after a reload and rejected again once removed.")
+    void shouldReloadVerificationKeysFromFile(@TempDir Path directory) throws IOException {
+        String newToken = new TokenService("another-secret", "k2", Map.of(), 100, 15).generateToken(mockUser());
+        Path keysFile = directory.resolve("verification-keys.properties");
+        Files.writeString(keysFile, "");
+        TokenService reloading = new TokenService("test-secret", "k1", Map.of(), keysFile, 30, 100, 15);
+
+        assertThrows(JWTVerificationException.class, () -> reloading.getSubject(newToken));
+
+        Files.writeString(keysFile, "k2=another-secret\n");
+        Files.setLastModifiedTime(keysFile, FileTime.fromMillis(System.currentTimeMillis() + 1_000));
+        reloading.reloadVerificationKeys();
+        assertEquals("teste1", reloading.getSubject(newToken));
+
+        Files.writeString(keysFile, "");
+        Files.setLastModifiedTime(keysFile, FileTime.fromMillis(System.currentTimeMillis() + 2_000));
+        reloading.reloadVerificationKeys();
+        assertThrows(JWTVerificationException.class, () -> reloading.getSubject(newToken));
+    }
+
+    protected User mockUser(){
+        User user = new User();
+
+        user.setId(1L);
+        user.setUsername("teste1");
+        user.setEmail("teste@hotmail.com");
+        user.setPassword("1245667");
+
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Description;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DeadlineSchedulerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Instant now = Instant.ofEpochMilli(10_000);
+
+    private Clock clock;
+
+    private DeadlineScheduler deadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        deadlineScheduler = new DeadlineScheduler(taskRepository, eventPublisher, clock, 1_000, 60, 100, 10, true);
+    }
+
+    @Test
+    @DisplayName("Should publish an overdue event once the loaded deadline passes")
+    @Description("Ensures that deadlines are loaded from the index ahead of time and checked again before the event is published.")
+    void shouldPublishOverdueEventWhenDeadlinePasses() {
+        Date deadLine = new Date(12_500);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{5L, deadLine});
+        when(taskRepository.findDeadlinesAfter(any(), anyLong(), any(), eq(StatusEnum.COMPLETED), any()))
+                .thenReturn(rows, List.of());
+        List<Object[]> due = new ArrayList<>();
+        due.add(new Object[]{5L, 1L, StatusEnum.PENDING, deadLine});
+        when(taskRepository.findDueBetween(List.of(5L), new Date(12_000), new Date(13_000), StatusEnum.COMPLETED))
+                .thenReturn(due);
+
+        deadlineScheduler.tick();
+        assertEquals(1, deadlineScheduler.pendingCount());
+
+        now = Instant.ofEpochMilli(12_000);
+        deadlineScheduler.tick();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        now = Instant.ofEpochMilli(13_000);
+        deadlineScheduler.tick();
+
+        verify(eventPublisher).publishEvent(TaskChangedEvent.overdue(5L, 1L, StatusEnum.PENDING, deadLine));
+        assertEquals(0, deadlineScheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should schedule deadlines written after the loader passed them")
+    @Description("Ensures that created and updated tasks due inside the loaded window join the wheel, and completed ones do not.")
+    void shouldScheduleDeadlinesFromWrites() {
+        when(taskRepository.findDeadlinesAfter(any(), anyLong(), any(), eq(StatusEnum.COMPLETED), any())).thenReturn(List.of());
+        deadlineScheduler.tick();
+
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.created(7L, 1L, StatusEnum.PENDING, new Date(11_200)));
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.updated(8L, 1L, StatusEnum.PENDING, StatusEnum.COMPLETED, new Date(11_200)));
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.created(9L, 1L, StatusEnum.PENDING, new Date(9_000)));
+
+        assertEquals(1, deadlineScheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should not add a task twice when its deadline did not change")
+    @Description("Ensures that updates keeping an open task's deadline do not grow the wheel with duplicate ids.")
+    void shouldNotAddUnchangedDeadlineTwice() {
+        when(taskRepository.findDeadlinesAfter(any(), anyLong(), any(), eq(StatusEnum.COMPLETED), any())).thenReturn(List.of());
+        deadlineScheduler.tick();
+        Date deadLine = new Date(11_200);
+
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.created(7L, 1L, StatusEnum.PENDING, deadLine));
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.updated(7L, 1L, StatusEnum.PENDING, StatusEnum.IN_PROGRESS, deadLine, deadLine));
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.updated(7L, 1L, StatusEnum.IN_PROGRESS, StatusEnum.IN_PROGRESS, deadLine, deadLine));
+
+        assertEquals(1, deadlineScheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should hand a written task back to the loader when the wheel is full")
+    @Description("Ensures that events never grow the wheel past max-pending and that the loader reads the task again instead.")
+    void shouldRewindLoaderWhenWheelIsFull() {
+        deadlineScheduler = new DeadlineScheduler(taskRepository, eventPublisher, clock, 1_000, 60, 1, 10, true);
+        when(taskRepository.findDeadlinesAfter(any(), anyLong(), any(), eq(StatusEnum.COMPLETED), any())).thenReturn(List.of());
+        deadlineScheduler.tick();
+
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.created(7L, 1L, StatusEnum.PENDING, new Date(15_000)));
+        deadlineScheduler.onTaskChanged(TaskChangedEvent.created(8L, 1L, StatusEnum.PENDING, new Date(20_000)));
+        assertEquals(1, deadlineScheduler.pendingCount());
+
+        now = Instant.ofEpochMilli(16_000);
+        deadlineScheduler.tick();
+
+        verify(taskRepository).findDeadlinesAfter(eq(new Date(20_000)), eq(7L), any(), eq(StatusEnum.COMPLETED), any());
+    }
+}
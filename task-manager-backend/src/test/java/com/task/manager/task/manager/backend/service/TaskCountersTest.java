@@ -0,0 +1,123 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskCountersTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskCounters taskCounters;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskCounters = new TaskCounters(taskRepository, 100, 600, 60);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{StatusEnum.PENDING, 3L});
+        rows.add(new Object[]{StatusEnum.COMPLETED, 2L});
+        when(taskRepository.countByStatus(1L)).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should seed counts with a single grouped query")
+    @Description("Ensures that totals are loaded once per user and then served from memory.")
+    void shouldSeedCountsOnce() {
+        assertEquals(5, taskCounters.approximateTotal(1L));
+        assertEquals(3, taskCounters.approximateTotal(1L, StatusEnum.PENDING));
+        assertEquals(0, taskCounters.approximateTotal(1L, StatusEnum.IN_PROGRESS));
+
+        verify(taskRepository, times(1)).countByStatus(1L);
+    }
+
+    @Test
+    @DisplayName("Should adjust counts from task events")
+    @Description("Ensures that create, status change and delete events move the cached counts without querying again.")
+    void shouldAdjustCountsFromEvents() {
+        taskCounters.approximateTotal(1L);
+
+        taskCounters.onTaskChanged(TaskChangedEvent.created(10L, 1L, StatusEnum.PENDING));
+        taskCounters.onTaskChanged(TaskChangedEvent.updated(10L, 1L, StatusEnum.PENDING, StatusEnum.IN_PROGRESS));
+        taskCounters.onTaskChanged(TaskChangedEvent.deleted(11L, 1L, StatusEnum.COMPLETED));
+
+        assertEquals(3, taskCounters.approximateTotal(1L, StatusEnum.PENDING));
+        assertEquals(1, taskCounters.approximateTotal(1L, StatusEnum.IN_PROGRESS));
+        assertEquals(1, taskCounters.approximateTotal(1L, StatusEnum.COMPLETED));
+        verify(taskRepository, times(1)).countByStatus(1L);
+    }
+
+    @Test
+    @DisplayName("Should reseed counts when the previous status is unknown")
+    @Description("Ensures that events without a previous status drop the cached counts instead of guessing.")
+    void shouldReseedWhenPreviousStatusIsUnknown() {
+        taskCounters.approximateTotal(1L);
+
+        taskCounters.onTaskChanged(TaskChangedEvent.deleted(11L, 1L, null));
+        taskCounters.approximateTotal(1L);
+
+        verify(taskRepository, times(2)).countByStatus(1L);
+    }
+
+    @Test
+    @DisplayName("Should adjust deadline counts from the previous and new task state")
+    @Description("Ensures that overdue and due-today counts come from one query and are moved by task events without counting again.")
+    void shouldAdjustDeadlineCountsFromEvents() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{2L, 1L});
+        when(taskRepository.countDeadlines(eq(1L), any(Date.class), any(Date.class), eq(StatusEnum.COMPLETED))).thenReturn(rows);
+        Date overdue = new Date(System.currentTimeMillis() - 3_600_000L);
+
+        TaskCounters.DeadlineCounts counts = taskCounters.deadlineCounts(1L);
+        assertEquals(2, counts.overdue());
+        assertEquals(1, counts.dueToday());
+
+        taskCounters.onTaskChanged(TaskChangedEvent.updated(10L, 1L, StatusEnum.PENDING, StatusEnum.COMPLETED, overdue, overdue));
+        assertEquals(1, taskCounters.deadlineCounts(1L).overdue());
+
+        taskCounters.onTaskChanged(TaskChangedEvent.created(11L, 1L, StatusEnum.PENDING, overdue));
+        taskCounters.onTaskChanged(TaskChangedEvent.created(12L, 1L, StatusEnum.PENDING, null));
+        assertEquals(2, taskCounters.deadlineCounts(1L).overdue());
+        assertEquals(1, taskCounters.deadlineCounts(1L).dueToday());
+
+        verify(taskRepository, times(1)).countDeadlines(eq(1L), any(Date.class), any(Date.class), eq(StatusEnum.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should not cache counts seeded while a write is in flight")
+    @Description("Ensures that a seed which may already see an uncommitted write is not adjusted again when that write commits.")
+    void shouldNotCacheCountsSeededDuringWrite() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskCounters.onTaskChanged(TaskChangedEvent.created(10L, 1L, StatusEnum.PENDING));
+            assertEquals(5, taskCounters.approximateTotal(1L));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        taskCounters.approximateTotal(1L);
+        taskCounters.approximateTotal(1L);
+
+        verify(taskRepository, times(2)).countByStatus(1L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Description;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBusTest {
+
+    private TaskEventBus taskEventBus;
+
+    @BeforeEach
+    void setUp() {
+        taskEventBus = new TaskEventBus(2, 1, 1, 3600, 60_000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskEventBus.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should merge pending events of the same task")
+    @Description("Ensures that a create followed by updates is delivered as one create, and that a create followed by a delete is dropped.")
+    void shouldCoalesceEventsOfSameTask() {
+        TaskChangedEvent created = TaskChangedEvent.created(1L, 1L, StatusEnum.PENDING);
+
+        TaskChangedEvent merged = TaskEventBus.coalesce(created, TaskChangedEvent.updated(1L, 1L, null, StatusEnum.COMPLETED));
+
+        assertEquals(TaskChangedEvent.created(1L, 1L, StatusEnum.COMPLETED), merged);
+        assertNull(TaskEventBus.coalesce(merged, TaskChangedEvent.deleted(1L, 1L, StatusEnum.COMPLETED)));
+        assertEquals(TaskChangedEvent.updated(1L, 1L, StatusEnum.PENDING, StatusEnum.COMPLETED),
+                TaskEventBus.coalesce(TaskChangedEvent.updated(1L, 1L, StatusEnum.PENDING, StatusEnum.IN_PROGRESS),
+                        TaskChangedEvent.updated(1L, 1L, StatusEnum.IN_PROGRESS, StatusEnum.COMPLETED)));
+    }
+
+    @Test
+    @DisplayName("Should ask a slow subscriber to resync instead of blocking")
+    @Description("Ensures that publishing does not wait for the subscriber and that a full buffer is replaced by a resync.")
+    void shouldResyncSlowSubscriber() throws InterruptedException {
+        CountDownLatch firstDelivery = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LinkedBlockingQueue<String> received = new LinkedBlockingQueue<>();
+        taskEventBus.subscribe(1L, new TaskEventBus.Sink() {
+            @Override
+            public void send(List<TaskChangedEvent> events, boolean resync) {
+                List<String> batch = new ArrayList<>();
+                if (resync) {
+                    batch.add("resync");
+                }
+                events.forEach(event -> batch.add(event.type() + ":" + event.taskId()));
+                received.add(String.join(",", batch));
+                firstDelivery.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+        });
+
+        taskEventBus.onTaskChanged(TaskChangedEvent.created(1L, 1L, StatusEnum.PENDING));
+        assertTrue(firstDelivery.await(5, TimeUnit.SECONDS));
+        for (long taskId = 2; taskId <= 4; taskId++) {
+            taskEventBus.onTaskChanged(TaskChangedEvent.created(taskId, 1L, StatusEnum.PENDING));
+        }
+        release.countDown();
+
+        assertEquals("CREATED:1", received.poll(5, TimeUnit.SECONDS));
+        assertEquals("resync,CREATED:4", received.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose send stays blocked")
+    @Description("Ensures that a send blocked past the timeout closes that stream and that other subscribers still receive events while it stays blocked.")
+    void shouldDropStalledSubscriber() throws InterruptedException {
+        TaskEventBus stallingBus = new TaskEventBus(2, 1, 1, 3600, 100, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        LinkedBlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        try {
+            stallingBus.subscribe(1L, new TaskEventBus.Sink() {
+                @Override
+                public void send(List<TaskChangedEvent> events, boolean resync) throws IOException {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+
+                @Override
+                public void heartbeat() {
+                }
+
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            });
+            stallingBus.subscribe(2L, new TaskEventBus.Sink() {
+                @Override
+                public void send(List<TaskChangedEvent> events, boolean resync) {
+                    events.forEach(event -> received.add(event.taskId()));
+                }
+
+                @Override
+                public void heartbeat() {
+                }
+            });
+
+            stallingBus.onTaskChanged(TaskChangedEvent.created(1L, 1L, StatusEnum.PENDING));
+            stallingBus.onTaskChanged(TaskChangedEvent.created(2L, 2L, StatusEnum.PENDING));
+
+            assertEquals(2L, received.poll(5, TimeUnit.SECONDS));
+            assertTrue(closed.await(5, TimeUnit.SECONDS));
+            assertEquals(1, stallingBus.subscriberCount());
+        } finally {
+            release.countDown();
+            stallingBus.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should limit the number of streams per user")
+    @Description("Ensures that a user cannot open more streams than configured until one is cancelled.")
+    void shouldLimitStreamsPerUser() {
+        TaskEventBus.Sink sink = new TaskEventBus.Sink() {
+            @Override
+            public void send(List<TaskChangedEvent> events, boolean resync) {
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+        };
+
+        TaskEventBus.Subscription subscription = taskEventBus.subscribe(1L, sink);
+        assertThrows(IllegalStateException.class, () -> taskEventBus.subscribe(1L, sink));
+
+        subscription.cancel();
+        assertNotNull(taskEventBus.subscribe(1L, sink));
+        assertEquals(1, taskEventBus.subscriberCount());
+    }
+}
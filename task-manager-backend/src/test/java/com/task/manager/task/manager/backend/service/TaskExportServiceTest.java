@@ -0,0 +1,74 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import com.task.manager.task.manager.backend.model.TaskRecord;
+import com.task.manager.task.manager.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskExportService taskExportService;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskExportService = new TaskExportService(taskRepository, new ObjectMapper());
+
+        Date date = new Date(0);
+        when(taskRepository.streamByUserId(1L)).thenReturn(Stream.of(
+                new TaskRecord(1L, "Relatório", "Mensal", StatusEnum.PENDING, date, date, 1L, "teste1", 0L),
+                new TaskRecord(2L, "Revisar, \"urgente\"", "Linha 1\nLinha 2", StatusEnum.COMPLETED, date, date, 1L, "teste1", 3L)
+        ).onClose(() -> closed.set(true)));
+    }
+
+    @Test
+    @DisplayName("Should export tasks as one JSON object per line")
+    @Description("Ensures that NDJSON exports write every streamed task on its own line and close the cursor.")
+    void shouldExportTasksAsNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(1L, TaskFileFormat.parse("ndjson"), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"Relatório\""));
+        assertTrue(lines[1].contains("\"id\":2"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Should export tasks as CSV with quoted fields")
+    @Description("Ensures that CSV exports start with a header and quote values holding commas, quotes or line breaks.")
+    void shouldExportTasksAsCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(1L, TaskFileFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,title,description,status,createDate,deadLine,assignedToId,assignedToUsername,version\r\n"));
+        assertTrue(csv.contains("1,Relatório,Mensal,PENDING,1970-01-01T00:00:00Z,1970-01-01T00:00:00Z,1,teste1,0\r\n"));
+        assertTrue(csv.contains("2,\"Revisar, \"\"urgente\"\"\",\"Linha 1\nLinha 2\",COMPLETED,"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFileFormat.parse("xml"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.task.manager.task.manager.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.task.manager.backend.model.BulkItemResultRecord;
+import com.task.manager.task.manager.backend.model.ImportErrorRecord;
+import com.task.manager.task.manager.backend.model.ImportReportRecord;
+import com.task.manager.task.manager.backend.model.NewTaskRecord;
+import com.task.manager.task.manager.backend.model.StatusEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Description;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskImportService taskImportService;
+
+    private final List<List<NewTaskRecord>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskImportService = new TaskImportService(taskService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, 2, 10, 200);
+
+        when(taskService.createAll(anyList())).thenAnswer(invocation -> {
+            List<NewTaskRecord> chunk = List.copyOf(invocation.getArgument(0));
+            chunks.add(chunk);
+            List<BulkItemResultRecord> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add("Duplicada".equals(chunk.get(i).title())
+                        ? BulkItemResultRecord.failure(i, null, "Task title already exists")
+                        : BulkItemResultRecord.success(i, 100L + i));
+            }
+            return results;
+        });
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON in chunks and report rejected lines")
+    @Description("Ensures that lines are saved in chunks for the authenticated user and that parse, validation and save errors keep their line numbers.")
+    void shouldImportNdjsonInChunks() throws IOException {
+        String body = """
+                {"title":"Tarefa 1","description":"Descrição","status":"PENDING","deadLine":"2030-01-01T10:00:00Z","assignedTo":99}
+                {"title":"Tarefa 2","description":"Descrição","status":"PENDING","deadLine":"2030-01-01T10:00:00Z"}
+                {"title":
+                {"description":"Sem título","status":"PENDING","deadLine":"2030-01-01T10:00:00Z"}
+
+                {"title":"Duplicada","description":"Descrição","status":"COMPLETED","deadLine":"2030-01-01T10:00:00Z"}
+                """;
+
+        ImportReportRecord report = taskImportService.importTasks(1L, TaskFileFormat.NDJSON, stream(body));
+
+        assertEquals(2, report.imported());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(3L, 4L, 6L), report.errors().stream().map(ImportErrorRecord::line).toList());
+        assertEquals("Title cannot be blank or null", report.errors().get(1).message());
+        assertEquals("Task title already exists", report.errors().get(2).message());
+        assertFalse(report.errorsTruncated());
+        assertEquals(2, chunks.size());
+        assertTrue(chunks.get(0).stream().allMatch(taskRecord -> taskRecord.assignedTo().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("Should clear the persistence context after every chunk")
+    @Description("Ensures that tasks saved by one chunk are detached before the next chunk is read, so an open-in-view request does not keep every imported entity.")
+    void shouldClearPersistenceContextBetweenChunks() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            body.append("{\"title\":\"Tarefa ").append(i)
+                    .append("\",\"description\":\"Descrição\",\"status\":\"PENDING\",\"deadLine\":\"2030-01-01T10:00:00Z\"}\n");
+        }
+
+        ImportReportRecord report = taskImportService.importTasks(1L, TaskFileFormat.NDJSON, stream(body.toString()));
+
+        assertEquals(5, report.imported());
+        InOrder inOrder = inOrder(taskService, entityManager);
+        for (int i = 0; i < 3; i++) {
+            inOrder.verify(taskService).createAll(anyList());
+            inOrder.verify(entityManager).clear();
+        }
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Should import CSV with quoted fields spanning lines")
+    @Description("Ensures that CSV columns are matched by header name and that quoted line breaks do not shift the reported line numbers.")
+    void shouldImportCsvWithQuotedFields() throws IOException {
+        String body = "\uFEFFid,title,description,status,deadLine\r\n"
+                + "1,\"Revisar, \"\"urgente\"\"\",\"Linha 1\nLinha 2\",pending,2030-01-01T10:00:00Z\r\n"
+                + "2,Tarefa 2,Descrição,ARCHIVED,2030-01-01T10:00:00Z\r\n"
+                + "3,Tarefa 3,Descrição,PENDING,amanhã\r\n";
+
+        ImportReportRecord report = taskImportService.importTasks(1L, TaskFileFormat.CSV, stream(body));
+
+        assertEquals(1, report.imported());
+        assertEquals(List.of(4L, 5L), report.errors().stream().map(ImportErrorRecord::line).toList());
+        verify(taskService, times(1)).createAll(anyList());
+        NewTaskRecord imported = chunks.get(0).get(0);
+        assertEquals("Revisar, \"urgente\"", imported.title());
+        assertEquals("Linha 1\nLinha 2", imported.description());
+        assertEquals(StatusEnum.PENDING, imported.status());
+        assertThrows(IllegalArgumentException.class,
+                () -> taskImportService.importTasks(1L, TaskFileFormat.CSV, stream("title,status\r\n")));
+    }
+
+    @Test
+    @DisplayName("Should reject lines longer than the limit and keep reading")
+    @Description("Ensures that an oversized NDJSON line or CSV record is reported on its own line without being buffered, and that bare carriage returns count as line breaks.")
+    void shouldRejectOversizedLines() throws IOException {
+        String task = "{\"title\":\"%s\",\"description\":\"Descrição\",\"status\":\"PENDING\",\"deadLine\":\"2030-01-01T10:00:00Z\"}";
+        String ndjson = task.formatted("Tarefa 1") + "\r" + task.formatted("x".repeat(500)) + "\r" + task.formatted("Tarefa 3") + "\n";
+
+        ImportReportRecord ndjsonReport = taskImportService.importTasks(1L, TaskFileFormat.NDJSON, stream(ndjson));
+
+        assertEquals(2, ndjsonReport.imported());
+        assertEquals(List.of(new ImportErrorRecord(2, "Line is longer than 200 characters")), ndjsonReport.errors());
+
+        String csv = "title,description,status,deadLine\r"
+                + "Tarefa 1,Descrição,PENDING,2030-01-01T10:00:00Z\r"
+                + "Tarefa 2,\"" + "x,\"\"".repeat(100) + "\r\n" + "x".repeat(100) + "\",PENDING,2030-01-01T10:00:00Z\r"
+                + "Tarefa 3,Descrição,PENDING,2030-01-01T10:00:00Z\r";
+
+        ImportReportRecord csvReport = taskImportService.importTasks(1L, TaskFileFormat.CSV, stream(csv));
+
+        assertEquals(2, csvReport.imported());
+        assertEquals(List.of(new ImportErrorRecord(3, "Record is longer than 200 characters")), csvReport.errors());
+        assertEquals("Tarefa 3", chunks.get(chunks.size() - 1).get(1).title());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
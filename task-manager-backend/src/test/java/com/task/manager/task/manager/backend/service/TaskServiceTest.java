@@ -13,8 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Description;
 import org.springframework.data.domain.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.*;
 
@@ -32,6 +35,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskCounters taskCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     private Pageable pageable;
 
     @BeforeEach
@@ -212,20 +224,45 @@ class TaskServiceTest {
     @DisplayName("Should list tasks by assigned user")
     @Description("Verifies that tasks are listed correctly when filtered by assigned user ID.")
     void shouldListTasksByUserId() {
-        Task task = mockTask();
+        TaskRecord task = TaskRecord.from(mockTask());
         User user = mockUser();
 
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Page<TaskRecord> taskPage = new PageImpl<>(List.of(task));
 
         when(taskRepository.findByUserId(user.getId(), pageable)).thenReturn(taskPage);
 
-        Page<Task> result = taskService.listTasksByUserId(user.getId(), pageable);
+        Page<TaskRecord> result = taskService.listTasksByUserId(user.getId(), pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(taskRepository, times(1)).findByUserId(user.getId(), pageable);
     }
 
+    @Test
+    @DisplayName("Should list tasks after a cursor")
+    @Description("Verifies that the first cursor page starts at the beginning and returns a cursor pointing at its last task.")
+    void shouldListTasksAfterCursor() {
+        TaskRecord task = TaskRecord.from(mockTask());
+        User user = mockUser();
+        Slice<TaskRecord> slice = new SliceImpl<>(List.of(task), PageRequest.ofSize(1), true);
+
+        when(taskRepository.findByUserIdAfter(user.getId(), TaskCursor.START.deadLine(), 0L, PageRequest.ofSize(1))).thenReturn(slice);
+
+        CursorPageRecord<TaskRecord> result = taskService.listTasksByUserIdAfter(user.getId(), null, 1);
+
+        assertTrue(result.hasNext());
+        assertEquals(1, result.content().size());
+        assertEquals(TaskCursor.of(task), TaskCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid cursor")
+    @Description("Ensures that a cursor that was not produced by the API is rejected.")
+    void shouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTasksByUserIdAfter(1L, "not-a-cursor", 10));
+        verify(taskRepository, never()).findByUserIdAfter(anyLong(), any(), anyLong(), any());
+    }
+
     @Test
     @DisplayName("Should find task by ID when task exists")
     @Description("Ensures that a task is found successfully when a valid ID is provided.")
@@ -254,13 +291,13 @@ class TaskServiceTest {
     @DisplayName("Should list tasks by status")
     @Description("Verifies that tasks are listed correctly when filtered by status.")
     void shouldListTasksByUserIdByStatus() {
-        Task task = mockTask();
+        TaskRecord task = TaskRecord.from(mockTask());
         User user = mockUser();
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Page<TaskRecord> taskPage = new PageImpl<>(List.of(task));
 
         when(taskRepository.findByStatus(user.getId(),StatusEnum.PENDING, pageable)).thenReturn(taskPage);
 
-        Page<Task> result = taskService.listTasksByStatus( user.getId(),StatusEnum.PENDING, pageable);
+        Page<TaskRecord> result = taskService.listTasksByStatus( user.getId(),StatusEnum.PENDING, pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
@@ -292,61 +329,263 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(task);
     }
 
-//    @Test
-//    @DisplayName("Should throw exception when task title already exists")
-//    @Description("Ensures that an exception is thrown when trying to update a task with an already existing title.")
-//    void shouldThrowException_WhenTaskTitleExists() {
-//        User user = mockUser();
-//        Date deadLine = mockDeadLine();
-//        Task existingTask = mockTaskValidate();
-//
-//        String conflictingTitle = "Título duplicado";
-//
-//        Task duplicateTask = new Task();
-//        duplicateTask.setTitle(conflictingTitle);
-//
-//        NewTaskRecord updatedTaskRecord = new NewTaskRecord(
-//                conflictingTitle,
-//                "Updated Task",
-//                StatusEnum.COMPLETED,
-//                deadLine,
-//                user.getId()
-//        );
-//
-//        when(taskRepository.findById(2L)).thenReturn(Optional.of(existingTask));
-//        when(taskRepository.findByTitle(conflictingTitle)).thenReturn(Optional.of(duplicateTask));
-//
-//        assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(2L, updatedTaskRecord));
-//
-//        verify(taskRepository, never()).save(any(Task.class));
-//    }
+    @Test
+    @DisplayName("Should patch only the fields that changed")
+    @Description("Ensures that an unchanged title is not validated again and that the changed status is saved.")
+    void shouldPatchOnlyChangedFields() {
+        Task task = mockTask();
+        task.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
 
+        taskService.patchTask(1L, 1L, new TaskPatchRecord("Test Task", null, StatusEnum.IN_PROGRESS, null, 3L));
 
+        assertEquals(StatusEnum.IN_PROGRESS, task.getStatus());
+        verify(taskRepository, never()).existsActiveTitle(anyLong(), anyString());
+        verify(taskRepository, times(1)).saveAndFlush(task);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(1L, 1L, StatusEnum.PENDING, StatusEnum.IN_PROGRESS,
+                task.getDeadLine(), task.getDeadLine()));
+    }
 
     @Test
-    @DisplayName("Should delete task successfully")
-    @Description("Ensures that an existing task is deleted successfully.")
-    void shouldDeleteTaskSuccessfully() {
+    @DisplayName("Should reject a patch based on a stale version")
+    @Description("Ensures that a client editing an older version of the task gets an optimistic locking failure.")
+    void shouldRejectPatchWithStaleVersion() {
         Task task = mockTask();
-
+        task.setVersion(4L);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
-        taskService.deleteTask(1L);
+        TaskPatchRecord patch = new TaskPatchRecord(null, "Changed", null, null, 3L);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskService.patchTask(1L, 1L, patch));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
 
-        assertTrue(task.isDeleted());
+    @Test
+    @DisplayName("Should throw exception when task title already exists")
+    @Description("Ensures that an exception is thrown when trying to update a task with an already existing title.")
+    void shouldThrowException_WhenTaskTitleExists() {
+        User user = mockUser();
+        Date deadLine = mockDeadLine();
+        Task existingTask = mockTaskValidate();
 
-        verify(taskRepository, times(1)).save(task);
+        String conflictingTitle = "Título duplicado";
+
+        NewTaskRecord updatedTaskRecord = new NewTaskRecord(
+                conflictingTitle,
+                "Updated Task",
+                StatusEnum.COMPLETED,
+                deadLine,
+                user.getId()
+        );
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.existsActiveTitle(user.getId(), conflictingTitle)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(2L, updatedTaskRecord));
+
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the user already has a task with the same title")
+    @Description("Ensures that title uniqueness is checked against the tasks of the assigned user.")
+    void shouldThrowExceptionWhenCreatingDuplicateTitleForUser() {
+        User user  = mockUser();
+        NewTaskRecord taskRecord = new NewTaskRecord(
+                "Test Task",
+                "Descrição",
+                StatusEnum.PENDING,
+                mockDeadLine(),
+                user.getId()
+        );
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(taskRepository.existsActiveTitle(user.getId(), "Test Task")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.create(taskRecord));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should create tasks in bulk and report each item")
+    @Description("Ensures that assignees and titles are checked once for the whole batch and that duplicates inside the batch are rejected.")
+    void shouldCreateTasksInBulk() {
+        User user = mockUser();
+        Date deadLine = mockDeadLine();
+        List<NewTaskRecord> taskRecords = List.of(
+                new NewTaskRecord("Task A", "Descrição", StatusEnum.PENDING, deadLine, user.getId()),
+                new NewTaskRecord("Task A", "Descrição", StatusEnum.PENDING, deadLine, user.getId()),
+                new NewTaskRecord("Test Task", "Descrição", StatusEnum.PENDING, deadLine, user.getId()),
+                new NewTaskRecord("Task B", "Descrição", StatusEnum.PENDING, deadLine, 99L)
+        );
+
+        List<Object[]> takenTitles = new ArrayList<>();
+        takenTitles.add(new Object[]{user.getId(), "Test Task"});
+        when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+        when(taskRepository.findActiveTitles(anyCollection(), anyCollection())).thenReturn(takenTitles);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(100L));
+            return tasks;
+        });
+
+        List<BulkItemResultRecord> results = taskService.createAll(taskRecords);
+
+        assertEquals(4, results.size());
+        assertEquals(BulkItemResultRecord.success(0, 100L), results.get(0));
+        assertEquals("Task title already exists", results.get(1).message());
+        assertEquals("Task title already exists", results.get(2).message());
+        assertEquals("User not found", results.get(3).message());
+        verify(userRepository, times(1)).findAllById(anySet());
+        verify(taskRepository, never()).existsActiveTitle(anyLong(), anyString());
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.created(100L, 1L, StatusEnum.PENDING, deadLine));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid items of a bulk create on their own")
+    @Description("Ensures that items breaking the record constraints fail with their messages while the valid items of the same batch are saved.")
+    void shouldRejectInvalidItemsInBulk() {
+        User user = mockUser();
+        Date deadLine = mockDeadLine();
+        List<NewTaskRecord> taskRecords = List.of(
+                new NewTaskRecord("Task A", "Descrição", StatusEnum.PENDING, deadLine, user.getId()),
+                new NewTaskRecord("Task B", "Descrição", null, deadLine, user.getId()),
+                new NewTaskRecord("Task C", " ", StatusEnum.PENDING, deadLine, user.getId()),
+                new NewTaskRecord("Task D", null, null, deadLine, user.getId())
+        );
+        when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(100L));
+            return tasks;
+        });
+
+        List<BulkItemResultRecord> results = taskService.createAll(taskRecords);
+
+        assertEquals(BulkItemResultRecord.success(0, 100L), results.get(0));
+        assertEquals(BulkItemResultRecord.failure(1, null, "Status cannot be null"), results.get(1));
+        assertEquals(BulkItemResultRecord.failure(2, null, "Description cannot be blank or null"), results.get(2));
+        assertEquals(BulkItemResultRecord.failure(3, null, "Description cannot be blank or null; Status cannot be null"), results.get(3));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should delete tasks in bulk and report missing ones")
+    @Description("Ensures that only the tasks owned by the user are deleted, with a single update statement.")
+    void shouldDeleteTasksInBulk() {
+        List<Object[]> statuses = new ArrayList<>();
+        statuses.add(new Object[]{1L, StatusEnum.PENDING, null});
+        when(taskRepository.findActiveStatuses(eq(1L), anyCollection())).thenReturn(statuses);
+
+        List<BulkItemResultRecord> results = taskService.deleteAll(1L, List.of(1L, 99L));
+
+        assertTrue(results.get(0).success());
+        assertFalse(results.get(1).success());
+        assertEquals("Task not found", results.get(1).message());
+        verify(taskRepository, times(1)).softDeleteAll(1L, Set.of(1L));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(1L, 1L, StatusEnum.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should delete task successfully")
+    @Description("Ensures that an existing task is soft deleted with a single update, reporting the status and deadline it had.")
+    void shouldDeleteTaskSuccessfully() {
+        Date deadLine = new Date();
+        List<Object[]> statuses = new ArrayList<>();
+        statuses.add(new Object[]{1L, StatusEnum.IN_PROGRESS, deadLine});
+        when(taskRepository.findActiveStatuses(1L, Set.of(1L))).thenReturn(statuses);
+        when(taskRepository.softDeleteById(1L, 1L)).thenReturn(1);
+
+        taskService.deleteTask(1L, 1L);
+
+        verify(taskRepository, times(1)).softDeleteById(1L, 1L);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(userRepository, times(1)).touchTasks(Set.of(1L));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(1L, 1L, StatusEnum.IN_PROGRESS, deadLine));
         verify(taskRepository, never()).deleteById(anyLong());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting a non-existent task")
-    @Description("Ensures that an exception is thrown when attempting to delete a task that does not exist.")
+    @Description("Ensures that an exception is thrown when no row of the user matches the task ID.")
     void shouldThrowException_WhenDeletingNonExistentTask() {
-        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        when(taskRepository.findActiveStatuses(1L, Set.of(99L))).thenReturn(new ArrayList<>());
 
-        assertThrows(NoSuchElementException.class, () -> taskService.deleteTask(99L));
-        verify(taskRepository, times(1)).findById(99L);
+        assertThrows(NoSuchElementException.class, () -> taskService.deleteTask(1L, 99L));
+        verify(taskRepository, never()).softDeleteById(99L, 1L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should update the status of a task with a single statement")
+    @Description("Ensures that a status change does not load the task and publishes an update event.")
+    void shouldUpdateTaskStatus() {
+        List<Object[]> statuses = new ArrayList<>();
+        statuses.add(new Object[]{1L, StatusEnum.PENDING, null});
+        when(taskRepository.findActiveStatuses(1L, Set.of(1L))).thenReturn(statuses);
+        when(taskRepository.updateStatus(1L, 1L, StatusEnum.COMPLETED)).thenReturn(1);
+
+        taskService.updateStatus(1L, 1L, StatusEnum.COMPLETED);
+
+        verify(taskRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(1L, 1L, StatusEnum.PENDING, StatusEnum.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should read the listing watermark from the user's write counter")
+    @Description("Ensures that the watermark is a primary key read and not an aggregate over the user's tasks.")
+    void shouldReadTasksWatermarkFromUser() {
+        when(userRepository.findTasksModified(1L)).thenReturn(7L);
+
+        assertEquals(7L, taskService.tasksWatermark(1L));
+        assertEquals(0L, taskService.tasksWatermark(2L));
+    }
+
+    @Test
+    @DisplayName("Should summarize tasks from the in-memory counters")
+    @Description("Ensures that the dashboard summary is built without any count query.")
+    void shouldSummarizeTasksFromCounters() {
+        when(taskCounters.approximateTotal(1L, StatusEnum.PENDING)).thenReturn(3L);
+        when(taskCounters.approximateTotal(1L, StatusEnum.IN_PROGRESS)).thenReturn(1L);
+        when(taskCounters.approximateTotal(1L, StatusEnum.COMPLETED)).thenReturn(4L);
+        when(taskCounters.deadlineCounts(1L)).thenReturn(new TaskCounters.DeadlineCounts(2, 1));
+
+        TaskSummaryRecord summary = taskService.summary(1L);
+
+        assertEquals(8, summary.total());
+        assertEquals(3L, summary.byStatus().get(StatusEnum.PENDING));
+        assertEquals(2, summary.overdue());
+        assertEquals(1, summary.dueToday());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should return search results in rank order")
+    @Description("Ensures that the words of the query are all required and the tasks keep the order of the full-text ranking.")
+    void shouldSearchTasksInRankOrder() {
+        Task first = mockTaskValidate();
+        Task second = mockTask();
+        when(taskRepository.searchIds(1L, "+relatório* +mensal*", PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(first.getId(), second.getId()), PageRequest.of(0, 10), true));
+        when(taskRepository.findRecordsByIds(1L, List.of(first.getId(), second.getId())))
+                .thenReturn(List.of(TaskRecord.from(second), TaskRecord.from(first)));
+
+        Slice<TaskRecord> result = taskService.searchTasks(1L, "relatório, mensal +de", 0, 10);
+
+        assertEquals(List.of(first.getId(), second.getId()), result.getContent().stream().map(TaskRecord::id).toList());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should reject a search without words long enough to match")
+    @Description("Ensures that empty queries and queries of short words are rejected before reaching the database.")
+    void shouldRejectSearchWithoutLongEnoughWords() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(1L, " ", 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(1L, "a de -*", 0, 10));
+
+        verify(taskRepository, never()).searchIds(anyLong(), anyString(), any());
     }
 
     protected User mockUser(){